@@ -0,0 +1,39 @@
+package sn.veli.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import sn.veli.CalendarprincipalApp;
+
+/**
+ * Starts the application for the benchmarks that need its database, on a random port and an in-memory H2 database.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {}
+
+    /**
+     * @param database the name of the in-memory database.
+     * @param h2Mode the H2 compatibility mode, such as {@code MYSQL} or {@code REGULAR}.
+     * @param properties additional {@code key=value} properties.
+     * @return the started application.
+     */
+    static ConfigurableApplicationContext start(String database, String h2Mode, String... properties) {
+        List<String> allProperties = new ArrayList<>(
+            List.of(
+                "server.port=0",
+                "spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1;NON_KEYWORDS=DAY;MODE=" + h2Mode,
+                "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "spring.jpa.properties.hibernate.order_inserts=true",
+                "logging.level.ROOT=WARN",
+                "logging.level.sn.veli=WARN"
+            )
+        );
+        allProperties.addAll(List.of(properties));
+        return new SpringApplicationBuilder(CalendarprincipalApp.class)
+            .profiles("testdev")
+            .properties(allProperties.toArray(String[]::new))
+            .run();
+    }
+}
@@ -0,0 +1,86 @@
+package sn.veli.benchmark;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sn.veli.domain.Day;
+import sn.veli.service.calendar.CalendarIndex;
+
+/**
+ * Three hundred years of days in a {@link CalendarIndex} against a {@code Map<String, Day>} keyed by ISO date.
+ * <p>
+ * Run with {@code -prof gc}: the bytes allocated to build each structure are close to its retained size. Lookups read the
+ * day of week of a date known by its epoch day.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CalendarIndexBenchmark {
+
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(1900, 1, 1).toEpochDay();
+
+    private static final int DAYS = (int) (LocalDate.of(2200, 1, 1).toEpochDay() - FIRST_EPOCH_DAY);
+
+    private CalendarIndex index;
+
+    private Map<String, Day> map;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        index = buildIndex();
+        map = buildMap();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public CalendarIndex buildIndex() {
+        CalendarIndex built = new CalendarIndex();
+        for (int i = 0; i < DAYS; i++) {
+            built.addFlags(FIRST_EPOCH_DAY + i, CalendarIndex.PERSISTED);
+        }
+        return built;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<String, Day> buildMap() {
+        Map<String, Day> built = HashMap.newHashMap(DAYS);
+        for (int i = 0; i < DAYS; i++) {
+            LocalDate date = LocalDate.ofEpochDay(FIRST_EPOCH_DAY + i);
+            built.put(date.toString(), new Day().date(date).dayOfWeek(date.getDayOfWeek().name()));
+        }
+        return built;
+    }
+
+    @Benchmark
+    public int lookupIndex() {
+        return CalendarIndex.dayOfWeekValue(index.get(nextEpochDay()));
+    }
+
+    @Benchmark
+    public String lookupMap() {
+        return map.get(LocalDate.ofEpochDay(nextEpochDay()).toString()).getDayOfWeek();
+    }
+
+    private long nextEpochDay() {
+        // a stride coprime with the number of days visits all of them, out of order
+        next = (next + 7919) % DAYS;
+        return FIRST_EPOCH_DAY + next;
+    }
+}
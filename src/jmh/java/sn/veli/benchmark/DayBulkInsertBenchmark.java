@@ -0,0 +1,98 @@
+package sn.veli.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import sn.veli.service.DayService;
+import sn.veli.service.dto.DayDTO;
+
+/**
+ * Rows inserted per second by one {@code POST /api/days} per day against the bulk {@link DayService#saveAll(List)}.
+ * <p>
+ * Runs the application on a random port and an in-memory H2 database, in its regular mode and in the MySQL
+ * compatibility mode used by the dev and test profiles. Every insert uses new dates, the table grows along the run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DayBulkInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+
+    public enum Strategy {
+        /**
+         * One transaction and one INSERT round trip per day, like repeated single creates.
+         */
+        ROW_BY_ROW,
+        /**
+         * One transaction, ids allocated by blocks and JDBC batches flushed every chunk.
+         */
+        BULK,
+    }
+
+    @Param({ "MYSQL", "REGULAR" })
+    private String h2Mode;
+
+    @Param({ "ROW_BY_ROW", "BULK" })
+    private Strategy strategy;
+
+    private ConfigurableApplicationContext context;
+
+    private DayService dayService;
+
+    private LocalDate nextDate = LocalDate.of(1900, 1, 1);
+
+    @Setup
+    public void setup() {
+        context = BenchmarkApplication.start("bulk", h2Mode);
+        dayService = context.getBean(DayService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    private List<DayDTO> nextDays() {
+        List<DayDTO> days = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            DayDTO day = new DayDTO();
+            day.setDate(nextDate);
+            day.setDayOfWeek(nextDate.getDayOfWeek().name());
+            days.add(day);
+            nextDate = nextDate.plusDays(1);
+        }
+        return days;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int insert() {
+        List<DayDTO> days = nextDays();
+        if (strategy == Strategy.BULK) {
+            return dayService.saveAll(days).size();
+        }
+        for (DayDTO day : days) {
+            dayService.save(day);
+        }
+        return days.size();
+    }
+}
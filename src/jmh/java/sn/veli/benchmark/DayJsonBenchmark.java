@@ -0,0 +1,61 @@
+package sn.veli.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import sn.veli.domain.Day;
+import sn.veli.service.dto.DayDTO;
+import sn.veli.service.mapper.DayMapperImpl;
+
+/**
+ * Benchmarks of the JSON serialization of {@link Day} and {@link DayDTO}, with writers resolved once as the web layer does.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DayJsonBenchmark {
+
+    private ObjectWriter dayWriter;
+
+    private ObjectWriter dayDTOWriter;
+
+    private Day day;
+
+    private DayDTO dayDTO;
+
+    @Setup
+    public void setup() {
+        // Same defaults as the ObjectMapper built by Spring Boot
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        dayWriter = objectMapper.writerFor(Day.class);
+        dayDTOWriter = objectMapper.writerFor(DayDTO.class);
+        day = new Day().id(1L).date(LocalDate.of(2026, 10, 18)).dayOfWeek("SUNDAY");
+        dayDTO = new DayMapperImpl().toDto(day);
+    }
+
+    @Benchmark
+    public byte[] serializeDay() throws JsonProcessingException {
+        return dayWriter.writeValueAsBytes(day);
+    }
+
+    @Benchmark
+    public byte[] serializeDayDTO() throws JsonProcessingException {
+        return dayDTOWriter.writeValueAsBytes(dayDTO);
+    }
+}
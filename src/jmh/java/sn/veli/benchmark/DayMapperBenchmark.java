@@ -0,0 +1,53 @@
+package sn.veli.benchmark;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sn.veli.domain.Day;
+import sn.veli.service.dto.DayDTO;
+import sn.veli.service.mapper.DayMapper;
+import sn.veli.service.mapper.DayMapperImpl;
+
+/**
+ * Benchmarks of the {@link DayMapper} conversions.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DayMapperBenchmark {
+
+    private DayMapper dayMapper;
+
+    private Day day;
+
+    private DayDTO dayDTO;
+
+    @Setup
+    public void setup() {
+        dayMapper = new DayMapperImpl();
+        day = new Day().id(1L).date(LocalDate.of(2026, 10, 18)).dayOfWeek("SUNDAY");
+        dayDTO = dayMapper.toDto(day);
+    }
+
+    @Benchmark
+    public DayDTO toDto() {
+        return dayMapper.toDto(day);
+    }
+
+    @Benchmark
+    public Day toEntity() {
+        return dayMapper.toEntity(dayDTO);
+    }
+}
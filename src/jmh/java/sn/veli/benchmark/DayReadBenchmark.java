@@ -0,0 +1,106 @@
+package sn.veli.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sn.veli.domain.Day;
+import sn.veli.repository.DayRepository;
+import sn.veli.service.DayService;
+import sn.veli.service.dto.DayDTO;
+import sn.veli.service.mapper.DayMapper;
+
+/**
+ * Read path of {@code GET /api/days}: managed entities converted by {@link DayMapper} against DTOs built by the query.
+ * <p>
+ * Both paths run in a read-only transaction, like {@link DayService}. The second-level cache is off, so every read goes
+ * to the database. Run with {@code -prof gc} to compare the bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DayReadBenchmark {
+
+    private static final int DAYS = 10_000;
+
+    public enum ReadPath {
+        /**
+         * Entities loaded in the persistence context, then mapped one by one.
+         */
+        ENTITY,
+        /**
+         * DTOs built by a constructor expression, nothing in the persistence context.
+         */
+        PROJECTION,
+    }
+
+    @Param({ "ENTITY", "PROJECTION" })
+    private ReadPath path;
+
+    @Param({ "100", "1000" })
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+
+    private DayRepository dayRepository;
+
+    private DayMapper dayMapper;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private Pageable page;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkApplication.start("read", "MYSQL", "application.cache.enabled=false");
+        dayRepository = context.getBean(DayRepository.class);
+        dayMapper = context.getBean(DayMapper.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        page = PageRequest.of(0, pageSize, Sort.by("date"));
+
+        List<DayDTO> days = new ArrayList<>(DAYS);
+        LocalDate date = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < DAYS; i++) {
+            days.add(new DayDTO(null, date, date.getDayOfWeek().name(), null));
+            date = date.plusDays(1);
+        }
+        context.getBean(DayService.class).saveAll(days);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DayDTO> findPage() {
+        return readOnlyTransaction.execute(status ->
+            switch (path) {
+                case ENTITY -> dayRepository.findSliceBy(page, Day.class).map(dayMapper::toDto).getContent();
+                case PROJECTION -> dayRepository.findSliceBy(page, DayDTO.class).getContent();
+            }
+        );
+    }
+}
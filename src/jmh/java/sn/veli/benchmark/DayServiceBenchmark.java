@@ -0,0 +1,74 @@
+package sn.veli.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.domain.Day;
+import sn.veli.service.calendar.CalendarIndex;
+import sn.veli.service.calendar.DayRecorder;
+import sn.veli.service.dto.DayLookupDTO;
+import sn.veli.service.impl.DayCache;
+import sn.veli.service.impl.DayServiceImpl;
+import sn.veli.service.mapper.DayMapper;
+import sn.veli.service.mapper.DayMapperImpl;
+
+/**
+ * Benchmarks of {@link DayServiceImpl#findDayByDateString(String)} with each calendar engine.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class DayServiceBenchmark {
+
+    /**
+     * Valid dates in every accepted layout, cycled through so that the JIT cannot fold the input.
+     */
+    private static final String[] DATES = { "18-10-2026", "29-02-2024", "2026-10-18", "01/01/1970", "31-12-9999", "20000301" };
+
+    @Param({ "FAST", "JAVA_TIME" })
+    private ApplicationProperties.Calendar.Engine engine;
+
+    private DayServiceImpl dayService;
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCalendar().setEngine(engine);
+        // The repository is not used by the calendar computation, resolved dates are not recorded
+        DayRecorder dayRecorder = new DayRecorder(null, new CalendarIndex(), null, applicationProperties, new SimpleMeterRegistry());
+        DayMapper dayMapper = new DayMapperImpl();
+        DayCache dayCache = new DayCache(null, dayMapper, applicationProperties, null, new SimpleMeterRegistry());
+        dayService = new DayServiceImpl(null, dayMapper, null, dayRecorder, dayCache, applicationProperties);
+    }
+
+    private String nextDate() {
+        index = (index + 1) % DATES.length;
+        return DATES[index];
+    }
+
+    @Benchmark
+    public Day findDayByDateString() {
+        return dayService.findDayByDateString(nextDate());
+    }
+
+    @Benchmark
+    public DayLookupDTO lookupInvalidDay() {
+        return dayService.lookupDay("31-02-2026", null);
+    }
+}
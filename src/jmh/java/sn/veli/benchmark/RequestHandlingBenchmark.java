@@ -0,0 +1,142 @@
+package sn.veli.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.domain.Day;
+import sn.veli.service.calendar.CalendarIndex;
+import sn.veli.service.calendar.DayRecorder;
+import sn.veli.service.impl.DayCache;
+import sn.veli.service.impl.DayServiceImpl;
+import sn.veli.service.mapper.DayMapper;
+import sn.veli.service.mapper.DayMapperImpl;
+
+/**
+ * Compares platform and virtual threads for request handling that blocks on a history call.
+ * <p>
+ * One operation is a wave of {@code requests} concurrent requests, each resolving a day then making a blocking
+ * HTTP call to a local history stub that answers after {@code latencyMillis}. The platform mode uses a pool
+ * sized like the default Undertow worker pool (8 threads per core), the virtual mode one virtual thread per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestHandlingBenchmark {
+
+    public enum ThreadMode {
+        PLATFORM,
+        VIRTUAL,
+    }
+
+    @Param({ "PLATFORM", "VIRTUAL" })
+    private ThreadMode mode;
+
+    @Param({ "1000" })
+    private int requests;
+
+    @Param({ "20" })
+    private long latencyMillis;
+
+    private HttpServer historyStub;
+
+    private HttpClient httpClient;
+
+    private HttpRequest historyRequest;
+
+    private ExecutorService executor;
+
+    private DayServiceImpl dayService;
+
+    @Setup
+    public void setup() throws IOException {
+        historyStub = HttpServer.create(new InetSocketAddress("localhost", 0), requests);
+        historyStub.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        historyStub.createContext(
+            "/",
+            exchange -> {
+                try (InputStream in = exchange.getRequestBody()) {
+                    in.readAllBytes();
+                }
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.sendResponseHeaders(201, -1);
+                exchange.close();
+            }
+        );
+        historyStub.start();
+
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        historyRequest = HttpRequest
+            .newBuilder(URI.create("http://localhost:" + historyStub.getAddress().getPort() + "/historique/save"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString("{\"request\":\"Search date: 18-10-2026\",\"response\":\"Day of week: SUNDAY\"}"))
+            .build();
+        executor = switch (mode) {
+            case PLATFORM -> Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 8);
+            case VIRTUAL -> Executors.newVirtualThreadPerTaskExecutor();
+        };
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        DayRecorder dayRecorder = new DayRecorder(null, new CalendarIndex(), null, applicationProperties, new SimpleMeterRegistry());
+        DayMapper dayMapper = new DayMapperImpl();
+        DayCache dayCache = new DayCache(null, dayMapper, applicationProperties, null, new SimpleMeterRegistry());
+        dayService = new DayServiceImpl(null, dayMapper, null, dayRecorder, dayCache, applicationProperties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        httpClient.close();
+        historyStub.stop(0);
+    }
+
+    @Benchmark
+    public void handleRequests(Blackhole blackhole) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    Day day = dayService.findDayByDateString("18-10-2026");
+                    blackhole.consume(day);
+                    blackhole.consume(httpClient.send(historyRequest, HttpResponse.BodyHandlers.discarding()).statusCode());
+                } catch (IOException e) {
+                    blackhole.consume(e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks of the calendar hot path, run with the {@code jmh} Maven profile.
+ */
+package sn.veli.benchmark;
@@ -1,6 +1,15 @@
 package sn.veli.config;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Properties specific to Calendarprincipal.
@@ -10,7 +19,816 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
+    private final Calendar calendar = new Calendar();
+
+    private final History history = new History();
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    private final Days days = new Days();
+
+    private final Cache cache = new Cache();
+
+    private final Replica replica = new Replica();
+
     // jhipster-needle-application-properties-property
+
+    public Calendar getCalendar() {
+        return calendar;
+    }
+
+    public History getHistory() {
+        return history;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public Days getDays() {
+        return days;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Replica getReplica() {
+        return replica;
+    }
+
     // jhipster-needle-application-properties-property-getter
+
+    public static class Calendar {
+
+        /**
+         * Strategy used to resolve the day of week of a date string.
+         */
+        public enum Engine {
+            /**
+             * Hand-written parser and epoch-day arithmetic, no allocation on the hot path.
+             */
+            FAST,
+            /**
+             * Legacy {@code java.time} parsing, kept as a fallback.
+             */
+            JAVA_TIME,
+        }
+
+        private Engine engine = Engine.FAST;
+
+        /**
+         * Maximum number of dates accepted by one batch lookup.
+         */
+        private int maxBatchSize = 10_000;
+
+        /**
+         * Maximum number of days streamed by one range request.
+         */
+        private int maxRangeDays = 146_097;
+
+        /**
+         * How long clients and proxies may reuse a dayfinder response, which never changes.
+         */
+        private Duration cacheMaxAge = Duration.ofDays(365);
+
+        /**
+         * Maximum number of rendered month grids kept in memory, 0 to render every request.
+         */
+        private long monthCacheMaxEntries = 2_000;
+
+        private final Persistence persistence = new Persistence();
+
+        private final Table table = new Table();
+
+        private final Business business = new Business();
+
+        public Engine getEngine() {
+            return engine;
+        }
+
+        public void setEngine(Engine engine) {
+            this.engine = engine;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public int getMaxRangeDays() {
+            return maxRangeDays;
+        }
+
+        public void setMaxRangeDays(int maxRangeDays) {
+            this.maxRangeDays = maxRangeDays;
+        }
+
+        public Duration getCacheMaxAge() {
+            return cacheMaxAge;
+        }
+
+        public void setCacheMaxAge(Duration cacheMaxAge) {
+            this.cacheMaxAge = cacheMaxAge;
+        }
+
+        public long getMonthCacheMaxEntries() {
+            return monthCacheMaxEntries;
+        }
+
+        public void setMonthCacheMaxEntries(long monthCacheMaxEntries) {
+            this.monthCacheMaxEntries = monthCacheMaxEntries;
+        }
+
+        public Persistence getPersistence() {
+            return persistence;
+        }
+
+        public Table getTable() {
+            return table;
+        }
+
+        public Business getBusiness() {
+            return business;
+        }
+
+        /**
+         * Recording of the dates resolved by the dayfinder in the {@code day} table.
+         */
+        public static class Persistence {
+
+            public enum Mode {
+                /**
+                 * Resolved dates are not stored.
+                 */
+                NONE,
+                /**
+                 * Each date not stored yet is queued and upserted in batches by a background thread.
+                 */
+                WRITE_BEHIND,
+            }
+
+            private Mode mode = Mode.NONE;
+
+            /**
+             * New dates waiting to be written, dates are not recorded while it is full.
+             */
+            private int queueCapacity = 10_000;
+
+            private int batchSize = 500;
+
+            private Duration flushInterval = Duration.ofSeconds(1);
+
+            private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+            public Mode getMode() {
+                return mode;
+            }
+
+            public void setMode(Mode mode) {
+                this.mode = mode;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public Duration getFlushInterval() {
+                return flushInterval;
+            }
+
+            public void setFlushInterval(Duration flushInterval) {
+                this.flushInterval = flushInterval;
+            }
+
+            public Duration getShutdownTimeout() {
+                return shutdownTimeout;
+            }
+
+            public void setShutdownTimeout(Duration shutdownTimeout) {
+                this.shutdownTimeout = shutdownTimeout;
+            }
+        }
+
+        /**
+         * Years filled in the {@code day} table by the calendar table job when it is started without a range.
+         */
+        public static class Table {
+
+            private int fromYear = 1900;
+
+            private int toYear = 2200;
+
+            /**
+             * Number of days inserted by one statement.
+             */
+            private int batchSize = 500;
+
+            public int getFromYear() {
+                return fromYear;
+            }
+
+            public void setFromYear(int fromYear) {
+                this.fromYear = fromYear;
+            }
+
+            public int getToYear() {
+                return toYear;
+            }
+
+            public void setToYear(int toYear) {
+                this.toYear = toYear;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+        }
+
+        /**
+         * Working days answered by {@code /services/calendar/business}. The holiday sets can be replaced at runtime with
+         * the {@code businesscalendar} actuator endpoint, until the next restart.
+         */
+        public static class Business {
+
+            /**
+             * Years covered by the business calendars.
+             */
+            private int fromYear = 1900;
+
+            private int toYear = 2200;
+
+            private Set<DayOfWeek> weekend = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+            /**
+             * Holiday set used when a request does not name one, weekends only when empty.
+             */
+            private String defaultHolidaySet;
+
+            /**
+             * Holidays, by name of set.
+             */
+            private Map<String, Set<LocalDate>> holidaySets = new LinkedHashMap<>();
+
+            public int getFromYear() {
+                return fromYear;
+            }
+
+            public void setFromYear(int fromYear) {
+                this.fromYear = fromYear;
+            }
+
+            public int getToYear() {
+                return toYear;
+            }
+
+            public void setToYear(int toYear) {
+                this.toYear = toYear;
+            }
+
+            public Set<DayOfWeek> getWeekend() {
+                return weekend;
+            }
+
+            public void setWeekend(Set<DayOfWeek> weekend) {
+                this.weekend = weekend;
+            }
+
+            public String getDefaultHolidaySet() {
+                return defaultHolidaySet;
+            }
+
+            public void setDefaultHolidaySet(String defaultHolidaySet) {
+                this.defaultHolidaySet = defaultHolidaySet;
+            }
+
+            public Map<String, Set<LocalDate>> getHolidaySets() {
+                return holidaySets;
+            }
+
+            public void setHolidaySets(Map<String, Set<LocalDate>> holidaySets) {
+                this.holidaySets = holidaySets;
+            }
+        }
+    }
+
+    public static class History {
+
+        /**
+         * What to do with a history event when the in-memory queue is full.
+         */
+        public enum OverflowPolicy {
+            /**
+             * Discard the event and count it.
+             */
+            DROP,
+            /**
+             * Wait up to {@code block-timeout} for room, then discard the event.
+             */
+            BLOCK,
+            /**
+             * Write the event to the spool, it is replayed once the queue has drained.
+             * Falls back to {@link #DROP} when the spool is disabled.
+             */
+            SPILL,
+        }
+
+        /**
+         * Whether a search answered with {@code 304 (Not Modified)} from the client's cache is recorded.
+         */
+        public enum NotModifiedPolicy {
+            /**
+             * Only searches answered with a body are recorded.
+             */
+            SKIP,
+            /**
+             * Cached replays are recorded like any other search.
+             */
+            RECORD,
+        }
+
+        private String baseUrl = "http://localhost:8081";
+
+        private String savePath = "/historique/save";
+
+        /**
+         * When set, batches are posted as a JSON array to this path instead of one event per call. One event per call,
+         * only the events not yet accepted are spooled after a failure, but a replay of the spool that fails part way
+         * sends its whole batch again, so the history service may see those events twice.
+         */
+        private String batchPath;
+
+        private int queueCapacity = 10_000;
+
+        private int batchSize = 100;
+
+        private Duration flushInterval = Duration.ofMillis(200);
+
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+        private NotModifiedPolicy notModifiedPolicy = NotModifiedPolicy.SKIP;
+
+        private Duration blockTimeout = Duration.ofMillis(50);
+
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+        private final Client client = new Client();
+
+        private final Spool spool = new Spool();
+
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        public void setBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        public String getSavePath() {
+            return savePath;
+        }
+
+        public void setSavePath(String savePath) {
+            this.savePath = savePath;
+        }
+
+        public String getBatchPath() {
+            return batchPath;
+        }
+
+        public void setBatchPath(String batchPath) {
+            this.batchPath = batchPath;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public Duration getFlushInterval() {
+            return flushInterval;
+        }
+
+        public void setFlushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+        }
+
+        public OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+        }
+
+        public NotModifiedPolicy getNotModifiedPolicy() {
+            return notModifiedPolicy;
+        }
+
+        public void setNotModifiedPolicy(NotModifiedPolicy notModifiedPolicy) {
+            this.notModifiedPolicy = notModifiedPolicy;
+        }
+
+        public Duration getBlockTimeout() {
+            return blockTimeout;
+        }
+
+        public void setBlockTimeout(Duration blockTimeout) {
+            this.blockTimeout = blockTimeout;
+        }
+
+        public Duration getShutdownTimeout() {
+            return shutdownTimeout;
+        }
+
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            this.shutdownTimeout = shutdownTimeout;
+        }
+
+        public Client getClient() {
+            return client;
+        }
+
+        public Spool getSpool() {
+            return spool;
+        }
+
+        /**
+         * On-disk spool of the history events that could not be delivered, replayed in order once
+         * the history service is reachable again.
+         */
+        public static class Spool {
+
+            private boolean enabled = true;
+
+            private String directory = System.getProperty("java.io.tmpdir") + "/calendarprincipal/history";
+
+            /**
+             * Size above which the current segment file is sealed and a new one is started.
+             */
+            private DataSize maxSegmentSize = DataSize.ofMegabytes(8);
+
+            /**
+             * Total size of the spool, events are dropped once it is reached.
+             */
+            private DataSize maxSize = DataSize.ofMegabytes(256);
+
+            /**
+             * How often the background sender forces the spool to disk.
+             */
+            private Duration syncInterval = Duration.ofSeconds(1);
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public String getDirectory() {
+                return directory;
+            }
+
+            public void setDirectory(String directory) {
+                this.directory = directory;
+            }
+
+            public DataSize getMaxSegmentSize() {
+                return maxSegmentSize;
+            }
+
+            public void setMaxSegmentSize(DataSize maxSegmentSize) {
+                this.maxSegmentSize = maxSegmentSize;
+            }
+
+            public DataSize getMaxSize() {
+                return maxSize;
+            }
+
+            public void setMaxSize(DataSize maxSize) {
+                this.maxSize = maxSize;
+            }
+
+            public Duration getSyncInterval() {
+                return syncInterval;
+            }
+
+            public void setSyncInterval(Duration syncInterval) {
+                this.syncInterval = syncInterval;
+            }
+        }
+
+        /**
+         * HTTP connection settings of the history client. Circuit breaker and bulkhead
+         * settings live under {@code resilience4j.*.instances.history}.
+         */
+        public static class Client {
+
+            private Duration connectTimeout = Duration.ofSeconds(1);
+
+            private Duration readTimeout = Duration.ofSeconds(2);
+
+            private int maxConnections = 20;
+
+            /**
+             * How long an idle pooled connection is kept alive before being evicted.
+             */
+            private Duration keepAlive = Duration.ofSeconds(30);
+
+            public Duration getConnectTimeout() {
+                return connectTimeout;
+            }
+
+            public void setConnectTimeout(Duration connectTimeout) {
+                this.connectTimeout = connectTimeout;
+            }
+
+            public Duration getReadTimeout() {
+                return readTimeout;
+            }
+
+            public void setReadTimeout(Duration readTimeout) {
+                this.readTimeout = readTimeout;
+            }
+
+            public int getMaxConnections() {
+                return maxConnections;
+            }
+
+            public void setMaxConnections(int maxConnections) {
+                this.maxConnections = maxConnections;
+            }
+
+            public Duration getKeepAlive() {
+                return keepAlive;
+            }
+
+            public void setKeepAlive(Duration keepAlive) {
+                this.keepAlive = keepAlive;
+            }
+        }
+    }
+
+    /**
+     * Diagnostics of the virtual-thread mode, enabled by {@code spring.threads.virtual.enabled}.
+     */
+    public static class VirtualThreads {
+
+        /**
+         * Report a virtual thread pinned to its carrier for longer than this.
+         */
+        private Duration pinnedThreshold = Duration.ofMillis(20);
+
+        public Duration getPinnedThreshold() {
+            return pinnedThreshold;
+        }
+
+        public void setPinnedThreshold(Duration pinnedThreshold) {
+            this.pinnedThreshold = pinnedThreshold;
+        }
+    }
+
+    /**
+     * Keyset pagination, export and bulk creation of {@code /api/days}.
+     */
+    public static class Days {
+
+        /**
+         * Page size used when the request does not give one.
+         */
+        private int defaultPageSize = 100;
+
+        /**
+         * Larger requested page sizes are reduced to this.
+         */
+        private int maxPageSize = 1_000;
+
+        /**
+         * How long the approximate total count of days is reused before being counted again.
+         */
+        private Duration countTtl = Duration.ofSeconds(30);
+
+        /**
+         * Maximum number of days created by one bulk request.
+         */
+        private int maxBulkSize = 10_000;
+
+        /**
+         * Number of days inserted between two flushes of a bulk create, best kept equal to {@code hibernate.jdbc.batch_size}.
+         */
+        private int bulkChunkSize = 50;
+
+        /**
+         * Maximum number of days kept by the cache of {@code GET /api/days/{id}}, 0 to disable it.
+         */
+        private long cacheMaxEntries = 10_000;
+
+        /**
+         * How long a day stays in the cache of {@code GET /api/days/{id}}, for the changes not made through the API.
+         */
+        private Duration cacheTtl = Duration.ofHours(1);
+
+        public int getDefaultPageSize() {
+            return defaultPageSize;
+        }
+
+        public void setDefaultPageSize(int defaultPageSize) {
+            this.defaultPageSize = defaultPageSize;
+        }
+
+        public int getMaxPageSize() {
+            return maxPageSize;
+        }
+
+        public void setMaxPageSize(int maxPageSize) {
+            this.maxPageSize = maxPageSize;
+        }
+
+        public Duration getCountTtl() {
+            return countTtl;
+        }
+
+        public void setCountTtl(Duration countTtl) {
+            this.countTtl = countTtl;
+        }
+
+        public int getMaxBulkSize() {
+            return maxBulkSize;
+        }
+
+        public void setMaxBulkSize(int maxBulkSize) {
+            this.maxBulkSize = maxBulkSize;
+        }
+
+        public int getBulkChunkSize() {
+            return bulkChunkSize;
+        }
+
+        public void setBulkChunkSize(int bulkChunkSize) {
+            this.bulkChunkSize = bulkChunkSize;
+        }
+
+        public long getCacheMaxEntries() {
+            return cacheMaxEntries;
+        }
+
+        public void setCacheMaxEntries(long cacheMaxEntries) {
+            this.cacheMaxEntries = cacheMaxEntries;
+        }
+
+        public Duration getCacheTtl() {
+            return cacheTtl;
+        }
+
+        public void setCacheTtl(Duration cacheTtl) {
+            this.cacheTtl = cacheTtl;
+        }
+    }
+
+    /**
+     * Hibernate second-level and query cache, off unless {@code enabled}.
+     */
+    public static class Cache {
+
+        private boolean enabled = false;
+
+        /**
+         * Size and time to live of the regions not listed in {@link #regions}.
+         */
+        private final Region defaults = new Region();
+
+        /**
+         * Size and time to live per region name, such as {@code sn.veli.domain.Day}.
+         */
+        private Map<String, Region> regions = new HashMap<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Region getDefaults() {
+            return defaults;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public void setRegions(Map<String, Region> regions) {
+            this.regions = regions;
+        }
+
+        public static class Region {
+
+            private long maxEntries = 1_000;
+
+            private Duration timeToLive = Duration.ofHours(1);
+
+            public long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+
+            public Duration getTimeToLive() {
+                return timeToLive;
+            }
+
+            public void setTimeToLive(Duration timeToLive) {
+                this.timeToLive = timeToLive;
+            }
+        }
+    }
+
+    /**
+     * Read replica serving the read-only transactions, off unless {@code enabled}. Its connection and pool are configured
+     * under {@code spring.datasource.replica}, with the same keys as {@code spring.datasource.hikari}.
+     */
+    public static class Replica {
+
+        private boolean enabled = false;
+
+        /**
+         * Reads go to the primary while the replica is further behind than this.
+         */
+        private Duration maxLag = Duration.ofSeconds(5);
+
+        private Duration lagCheckInterval = Duration.ofSeconds(1);
+
+        /**
+         * Query run on the replica, returning its lag in seconds. When not set, the replica is only checked to answer.
+         */
+        private String lagQuery;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getMaxLag() {
+            return maxLag;
+        }
+
+        public void setMaxLag(Duration maxLag) {
+            this.maxLag = maxLag;
+        }
+
+        public Duration getLagCheckInterval() {
+            return lagCheckInterval;
+        }
+
+        public void setLagCheckInterval(Duration lagCheckInterval) {
+            this.lagCheckInterval = lagCheckInterval;
+        }
+
+        public String getLagQuery() {
+            return lagQuery;
+        }
+
+        public void setLagQuery(String lagQuery) {
+            this.lagQuery = lagQuery;
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -0,0 +1,76 @@
+package sn.veli.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.util.OptionalLong;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import sn.veli.repository.DayRepository;
+
+/**
+ * Hibernate second-level and query cache, backed by bounded Caffeine caches through JCache.
+ * <p>
+ * Every region is created up front with the size and time to live of {@code application.cache.regions}, or of
+ * {@code application.cache.defaults}. The caches are also registered with the Spring cache manager, which exports their
+ * hit, miss and eviction counts as {@code cache.*} metrics.
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(prefix = "application.cache", name = "enabled", havingValue = "true")
+public class CacheConfiguration {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    private final ApplicationProperties.Cache cache;
+
+    public CacheConfiguration(ApplicationProperties applicationProperties) {
+        this.cache = applicationProperties.getCache();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        };
+    }
+
+    @Bean
+    public JCacheManagerCustomizer cacheManagerCustomizer() {
+        return cm -> {
+            createCache(cm, sn.veli.domain.Day.class.getName());
+            createCache(cm, DayRepository.DAY_BY_DATE_CACHE);
+            createCache(cm, QUERY_RESULTS_REGION);
+            // Query results are checked against these timestamps: they must outlive them, so they never expire
+            createCache(cm, UPDATE_TIMESTAMPS_REGION, new CaffeineConfiguration<>());
+            // jhipster-needle-caffeine-add-entry
+        };
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        ApplicationProperties.Cache.Region region = cache.getRegions().getOrDefault(cacheName, cache.getDefaults());
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaxEntries()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.getTimeToLive().toNanos()));
+        createCache(cm, cacheName, configuration);
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName, CaffeineConfiguration<Object, Object> configuration) {
+        javax.cache.Cache<Object, Object> existing = cm.getCache(cacheName);
+        if (existing != null) {
+            existing.clear();
+            return;
+        }
+        configuration.setStatisticsEnabled(true);
+        cm.createCache(cacheName, configuration);
+    }
+}
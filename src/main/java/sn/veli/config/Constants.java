@@ -1,5 +1,7 @@
 package sn.veli.config;
 
+import io.micrometer.core.instrument.Tags;
+
 /**
  * Application constants.
  */
@@ -7,5 +9,12 @@ public final class Constants {
 
     public static final String SYSTEM = "system";
 
+    /**
+     * Tags of the Caffeine caches built by the application itself, outside of the Spring cache manager of
+     * {@link CacheConfiguration}. Spring tags its caches with the {@code cache.manager} they belong to, and Prometheus
+     * needs the same tag keys on every {@code cache.*} meter.
+     */
+    public static final Tags APPLICATION_CACHE_TAGS = Tags.of("cache.manager", "application");
+
     private Constants() {}
 }
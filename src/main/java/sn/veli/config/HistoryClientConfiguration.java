@@ -0,0 +1,75 @@
+package sn.veli.config;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Shared HTTP client for the history microservice.
+ * <p>
+ * A single pooled Apache HttpClient keeps connections alive between calls, so history
+ * events never pay for client construction or a new TCP handshake.
+ */
+@Configuration
+public class HistoryClientConfiguration {
+
+    public static final String HISTORY_REST_CLIENT = "historyRestClient";
+
+    private static final String HISTORY_REQUEST_FACTORY = "historyRequestFactory";
+
+    private final Logger log = LoggerFactory.getLogger(HistoryClientConfiguration.class);
+
+    @Bean(name = HISTORY_REQUEST_FACTORY)
+    public HttpComponentsClientHttpRequestFactory historyRequestFactory(ApplicationProperties applicationProperties) {
+        ApplicationProperties.History.Client client = applicationProperties.getHistory().getClient();
+        log.debug("Creating history HTTP client with a pool of {} connections", client.getMaxConnections());
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder
+            .create()
+            .setMaxConnTotal(client.getMaxConnections())
+            .setMaxConnPerRoute(client.getMaxConnections())
+            .setDefaultConnectionConfig(
+                ConnectionConfig
+                    .custom()
+                    .setConnectTimeout(Timeout.of(client.getConnectTimeout()))
+                    .setSocketTimeout(Timeout.of(client.getReadTimeout()))
+                    .build()
+            )
+            .build();
+        CloseableHttpClient httpClient = HttpClients
+            .custom()
+            .setConnectionManager(connectionManager)
+            .setDefaultRequestConfig(
+                RequestConfig
+                    .custom()
+                    .setConnectionRequestTimeout(Timeout.of(client.getConnectTimeout()))
+                    .setResponseTimeout(Timeout.of(client.getReadTimeout()))
+                    .build()
+            )
+            .setKeepAliveStrategy((response, context) -> TimeValue.of(client.getKeepAlive()))
+            .evictIdleConnections(TimeValue.of(client.getKeepAlive()))
+            .evictExpiredConnections()
+            .build();
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @Bean(name = HISTORY_REST_CLIENT)
+    public RestClient historyRestClient(
+        RestClient.Builder restClientBuilder,
+        @Qualifier(HISTORY_REQUEST_FACTORY) HttpComponentsClientHttpRequestFactory historyRequestFactory,
+        ApplicationProperties applicationProperties
+    ) {
+        return restClientBuilder.baseUrl(applicationProperties.getHistory().getBaseUrl()).requestFactory(historyRequestFactory).build();
+    }
+}
@@ -0,0 +1,65 @@
+package sn.veli.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.liquibase.LiquibaseDataSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Primary and replica connection pools behind a {@link ReplicaRoutingDataSource}, when {@code application.replica.enabled}.
+ * <p>
+ * The primary pool keeps the {@code spring.datasource} settings and runs the Liquibase migrations. The replica pool is
+ * configured under {@code spring.datasource.replica}. Both pools report their {@code hikaricp.*} metrics, tagged with
+ * their pool name.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfiguration {
+
+    private static final String PRIMARY_POOL_NAME = "primary";
+
+    private static final String REPLICA_POOL_NAME = "replica";
+
+    @Bean
+    @LiquibaseDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(PRIMARY_POOL_NAME);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(REPLICA_POOL_NAME);
+        // like the primary: Hibernate is configured with hibernate.connection.provider_disables_autocommit
+        dataSource.setAutoCommit(false);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, applicationProperties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,166 @@
+package sn.veli.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends the connections of read-only transactions to the replica, and every other connection to the primary.
+ * <p>
+ * A transaction is only flagged read-only once it has begun, after the transaction manager asked for its connection:
+ * this data source must be wrapped in a {@link LazyConnectionDataSourceProxy}, so that the route is chosen when the
+ * first statement runs.
+ * <p>
+ * The replica is checked every {@code lag-check-interval}. While it does not answer, or lags behind by more than
+ * {@code max-lag}, reads go to the primary as well.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements SmartLifecycle {
+
+    public static final String ROUTED_METER_NAME = "datasource.connections.routed";
+    public static final String LAG_METER_NAME = "datasource.replica.lag";
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    public enum Route {
+        PRIMARY,
+        REPLICA,
+    }
+
+    private final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource replica;
+
+    private final ApplicationProperties.Replica properties;
+
+    private final Counter primaryCounter;
+
+    private final Counter replicaCounter;
+
+    private volatile boolean replicaUsable;
+
+    private volatile double lagSeconds = Double.NaN;
+
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaRoutingDataSource(
+        DataSource primary,
+        DataSource replica,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.replica = replica;
+        this.properties = applicationProperties.getReplica();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        Gauge
+            .builder(LAG_METER_NAME, this, dataSource -> dataSource.lagSeconds)
+            .description("Replication lag of the replica, NaN while it cannot be read")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.primaryCounter = routedCounter(Route.PRIMARY, meterRegistry);
+        this.replicaCounter = routedCounter(Route.REPLICA, meterRegistry);
+    }
+
+    private static Counter routedCounter(Route route, MeterRegistry meterRegistry) {
+        return Counter
+            .builder(ROUTED_METER_NAME)
+            .description("Connections handed out, by route")
+            .tag("route", route.name().toLowerCase())
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaUsable && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            replicaCounter.increment();
+            return Route.REPLICA;
+        }
+        primaryCounter.increment();
+        return Route.PRIMARY;
+    }
+
+    /**
+     * Read the lag of the replica and decide whether it may serve reads.
+     */
+    void checkReplica() {
+        boolean usable;
+        try (Connection connection = replica.getConnection()) {
+            if (properties.getLagQuery() == null) {
+                usable = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+                lagSeconds = usable ? 0 : Double.NaN;
+            } else {
+                lagSeconds = queryLag(connection);
+                // a NaN lag, replication stopped, is never usable
+                usable = lagSeconds <= properties.getMaxLag().toSeconds();
+            }
+        } catch (SQLException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            log.debug("Could not check the replica: {}", e.getMessage());
+        }
+        if (usable != replicaUsable) {
+            if (usable) {
+                log.info("Read-only transactions go to the replica");
+            } else {
+                log.warn("Read-only transactions go to the primary, the replica lag is {} seconds", lagSeconds);
+            }
+            replicaUsable = usable;
+        }
+    }
+
+    private double queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            if (!resultSet.next()) {
+                return Double.NaN;
+            }
+            double lag = resultSet.getDouble(1);
+            return resultSet.wasNull() ? Double.NaN : lag;
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        checkReplica();
+        scheduler =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-lag-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+        long interval = properties.getLagCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkReplica, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+}
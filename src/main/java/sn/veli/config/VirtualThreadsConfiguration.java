@@ -0,0 +1,39 @@
+package sn.veli.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Runs request handling on virtual threads when {@code spring.threads.virtual.enabled} is set.
+ * <p>
+ * Spring Boot switches its own executors to virtual threads but not the Undertow worker pool, so servlet
+ * requests and Spring MVC async work (such as streamed responses) are dispatched to virtual threads here.
+ * {@code @Async} work is handled by {@link AsyncConfiguration}.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfiguration implements WebMvcConfigurer {
+
+    private final Logger log = LoggerFactory.getLogger(VirtualThreadsConfiguration.class);
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadsUndertowCustomizer() {
+        log.debug("Dispatching servlet requests to virtual threads");
+        return factory ->
+            factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo.setExecutor(new VirtualThreadTaskExecutor("undertow-")));
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new VirtualThreadTaskExecutor("mvc-async-"));
+    }
+}
@@ -0,0 +1,171 @@
+package sn.veli.config.liquibase;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import liquibase.change.custom.CustomTaskChange;
+import liquibase.database.Database;
+import liquibase.database.core.MySQLDatabase;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.exception.CustomChangeException;
+import liquibase.exception.ValidationErrors;
+import liquibase.resource.ResourceAccessor;
+import sn.veli.domain.Day;
+import sn.veli.service.calendar.CalendarTableGenerator;
+
+/**
+ * Liquibase change filling the {@code day} table with every date from {@code fromYear} to {@code toYear}, for H2 and MySQL.
+ * <p>
+ * Dates already stored are skipped, the others are inserted with batched JDBC statements. The ids are taken past the
+ * ids already used and past the value of {@code sequence_generator}, which is then moved after them, so that the blocks
+ * Hibernate allocates afterwards do not overlap the inserted rows.
+ */
+public class CalendarTableChange implements CustomTaskChange {
+
+    private static final String INSERT = "INSERT INTO day (id, date, day_of_week) VALUES (?, ?, ?)";
+
+    private static final String SELECT_DATES = "SELECT date FROM day WHERE date BETWEEN ? AND ?";
+
+    private static final String SELECT_MAX_ID = "SELECT COALESCE(MAX(id), 0) FROM day";
+
+    private static final String SELECT_H2_SEQUENCE =
+        "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'SEQUENCE_GENERATOR'";
+
+    private static final String SELECT_MYSQL_SEQUENCE = "SELECT next_val FROM sequence_generator";
+
+    private static final String UPDATE_MYSQL_SEQUENCE = "UPDATE sequence_generator SET next_val = ?";
+
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * The {@code allocationSize} of the id generator of {@link Day}.
+     */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private Integer fromYear;
+
+    private Integer toYear;
+
+    private long nextId;
+
+    private long inserted;
+
+    public void setFromYear(Integer fromYear) {
+        this.fromYear = fromYear;
+    }
+
+    public void setToYear(Integer toYear) {
+        this.toYear = toYear;
+    }
+
+    @Override
+    public void execute(Database database) throws CustomChangeException {
+        Connection connection = ((JdbcConnection) database.getConnection()).getUnderlyingConnection();
+        boolean mysql = database instanceof MySQLDatabase;
+        try {
+            long sequence = nextSequenceValue(connection, mysql);
+            nextId = Math.max(queryLong(connection, SELECT_MAX_ID) + 1, sequence);
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                CalendarTableGenerator.forEachYear(
+                    fromYear,
+                    toYear,
+                    days -> {
+                        try {
+                            insertMissing(connection, insert, days);
+                        } catch (SQLException e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                );
+            }
+            long nextBlock = nextId + ID_BLOCK_SIZE;
+            if (nextBlock > sequence) {
+                moveSequence(connection, mysql, nextBlock);
+            }
+        } catch (SQLException | IllegalStateException e) {
+            throw new CustomChangeException("Could not fill the day table from " + fromYear + " to " + toYear, e);
+        }
+    }
+
+    private void insertMissing(Connection connection, PreparedStatement insert, List<Day> days) throws SQLException {
+        Set<LocalDate> stored = new HashSet<>();
+        try (PreparedStatement select = connection.prepareStatement(SELECT_DATES)) {
+            select.setObject(1, days.get(0).getDate());
+            select.setObject(2, days.get(days.size() - 1).getDate());
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    stored.add(resultSet.getObject(1, LocalDate.class));
+                }
+            }
+        }
+        int pending = 0;
+        for (Day day : days) {
+            if (stored.contains(day.getDate())) {
+                continue;
+            }
+            insert.setLong(1, nextId++);
+            inserted++;
+            insert.setObject(2, day.getDate());
+            insert.setString(3, day.getDayOfWeek());
+            insert.addBatch();
+            if (++pending == BATCH_SIZE) {
+                insert.executeBatch();
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            insert.executeBatch();
+        }
+    }
+
+    private static long nextSequenceValue(Connection connection, boolean mysql) throws SQLException {
+        return queryLong(connection, mysql ? SELECT_MYSQL_SEQUENCE : SELECT_H2_SEQUENCE);
+    }
+
+    private static void moveSequence(Connection connection, boolean mysql, long value) throws SQLException {
+        if (mysql) {
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_MYSQL_SEQUENCE)) {
+                update.setLong(1, value);
+                update.executeUpdate();
+            }
+        } else {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER SEQUENCE sequence_generator RESTART WITH " + value);
+            }
+        }
+    }
+
+    private static long queryLong(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        return "Filled the day table from " + fromYear + " to " + toYear + ": " + inserted + " days inserted";
+    }
+
+    @Override
+    public void setUp() {}
+
+    @Override
+    public void setFileOpener(ResourceAccessor resourceAccessor) {}
+
+    @Override
+    public ValidationErrors validate(Database database) {
+        ValidationErrors errors = new ValidationErrors();
+        errors.checkRequiredField("fromYear", fromYear);
+        errors.checkRequiredField("toYear", toYear);
+        if (fromYear != null && toYear != null && (fromYear < 1 || toYear > 9999 || fromYear > toYear)) {
+            errors.addError("The years must be between 1 and 9999, in order: " + fromYear + " to " + toYear);
+        }
+        return errors;
+    }
+}
@@ -3,30 +3,37 @@ package sn.veli.domain;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
+import java.time.LocalDate;
 
 /**
  * A Day.
  */
 @Entity
 @Table(name = "day")
+@org.hibernate.annotations.Cache(usage = org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Day implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
     @Column(name = "id")
     private Long id;
 
     @NotNull
-    @Column(name = "date", nullable = false)
-    private String date;
+    @Column(name = "date", nullable = false, unique = true)
+    private LocalDate date;
 
     @NotNull
     @Column(name = "day_of_week", nullable = false)
     private String dayOfWeek;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -42,16 +49,16 @@ public class Day implements Serializable {
         this.id = id;
     }
 
-    public String getDate() {
+    public LocalDate getDate() {
         return this.date;
     }
 
-    public Day date(String date) {
+    public Day date(LocalDate date) {
         this.setDate(date);
         return this;
     }
 
-    public void setDate(String date) {
+    public void setDate(LocalDate date) {
         this.date = date;
     }
 
@@ -68,6 +75,19 @@ public class Day implements Serializable {
         this.dayOfWeek = dayOfWeek;
     }
 
+    public Integer getVersion() {
+        return this.version;
+    }
+
+    public Day version(Integer version) {
+        this.setVersion(version);
+        return this;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -94,6 +114,7 @@ public class Day implements Serializable {
             "id=" + getId() +
             ", date='" + getDate() + "'" +
             ", dayOfWeek='" + getDayOfWeek() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -0,0 +1,103 @@
+package sn.veli.management;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import sn.veli.config.ApplicationProperties;
+
+/**
+ * Reports virtual threads pinned to their carrier thread, which would make blocking calls hold a carrier.
+ * <p>
+ * Listens to the {@code jdk.VirtualThreadPinned} JFR event in-process: every pinning longer than
+ * {@code application.virtual-threads.pinned-threshold} is recorded in the {@value #PINNED_METER_NAME} timer
+ * and logged with the top of its stack, which points at the {@code synchronized} block or native frame to fix.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    public static final String PINNED_METER_NAME = "jvm.threads.virtual.pinned";
+
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+
+    private static final int LOGGED_FRAMES = 8;
+
+    private final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private final Duration threshold;
+
+    private final Timer pinnedTimer;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this.threshold = applicationProperties.getVirtualThreads().getPinnedThreshold();
+        this.pinnedTimer = Timer
+            .builder(PINNED_METER_NAME)
+            .description("Time virtual threads spent pinned to their carrier thread")
+            .register(meterRegistry);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        if (log.isWarnEnabled()) {
+            log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), formatStackTrace(event.getStackTrace()));
+        }
+    }
+
+    private static String formatStackTrace(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            builder
+                .append(System.lineSeparator())
+                .append("\tat ")
+                .append(frame.getMethod().getType().getName())
+                .append('.')
+                .append(frame.getMethod().getName())
+                .append(':')
+                .append(frame.getLineNumber());
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (recordingStream != null) {
+            return;
+        }
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT_NAME).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT_NAME, this::onPinned);
+        recordingStream.startAsync();
+        log.debug("Reporting virtual threads pinned for more than {}", threshold);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+}
@@ -1,12 +1,102 @@
 package sn.veli.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import sn.veli.domain.Day;
 
 /**
  * Spring Data JPA repository for the Day entity.
+ * <p>
+ * Lookups by date are served by the unique index on {@code day.date}: the slices are keyset pages,
+ * always read from their first row with a lower bound past the last date already returned.
+ * <p>
+ * Read-only paths pass the type to build, such as a DTO, to select its constructor arguments directly
+ * instead of loading managed entities.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface DayRepository extends JpaRepository<Day, Long> {}
+public interface DayRepository extends DayRepositoryWithUpsert, JpaRepository<Day, Long> {
+    String EXPORT_FETCH_SIZE = "500";
+
+    String DAY_BY_DATE_CACHE = "dayByDate";
+
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = DAY_BY_DATE_CACHE),
+        }
+    )
+    Optional<Day> findByDate(LocalDate date);
+
+    @Query("select day.date from Day day where day.date between :from and :to")
+    List<LocalDate> findDatesBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Replace the fields of a day, only if it still has the given version, and increment its version.
+     * The persistence context is cleared, as the managed days are not updated.
+     *
+     * @return 1 if the day was updated, 0 if it does not exist or has another version.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(
+        "update Day day set day.date = :date, day.dayOfWeek = :dayOfWeek, day.version = day.version + 1 " +
+        "where day.id = :id and day.version = :version"
+    )
+    int updateIfVersion(
+        @Param("id") Long id,
+        @Param("version") Integer version,
+        @Param("date") LocalDate date,
+        @Param("dayOfWeek") String dayOfWeek
+    );
+
+    /**
+     * Replace the non-null fields of a day, only if it still has the given version, and increment its version.
+     * The persistence context is cleared, as the managed days are not updated.
+     *
+     * @return 1 if the day was updated, 0 if it does not exist or has another version.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(
+        "update Day day set day.date = case when :date is null then day.date else :date end, " +
+        "day.dayOfWeek = case when :dayOfWeek is null then day.dayOfWeek else :dayOfWeek end, " +
+        "day.version = day.version + 1 where day.id = :id and day.version = :version"
+    )
+    int partialUpdateIfVersion(
+        @Param("id") Long id,
+        @Param("version") Integer version,
+        @Param("date") LocalDate date,
+        @Param("dayOfWeek") String dayOfWeek
+    );
+
+    <T> Slice<T> findSliceBy(Pageable pageable, Class<T> type);
+
+    <T> Slice<T> findByDateBetween(LocalDate from, LocalDate to, Pageable pageable, Class<T> type);
+
+    <T> Slice<T> findByDateGreaterThanEqual(LocalDate from, Pageable pageable, Class<T> type);
+
+    <T> Slice<T> findByDateLessThanEqual(LocalDate to, Pageable pageable, Class<T> type);
+
+    /**
+     * Forward-only cursor over every day, fetched from the database {@value #EXPORT_FETCH_SIZE} rows at a time.
+     * The stream must be closed. Days read as entities must be detached once used for the heap to stay flat, and are
+     * not put in the second-level cache, an export would evict every other entry.
+     */
+    @QueryHints(
+        {
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"),
+        }
+    )
+    <T> Stream<T> streamAllByOrderByDate(Class<T> type);
+}
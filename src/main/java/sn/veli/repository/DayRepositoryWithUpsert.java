@@ -0,0 +1,14 @@
+package sn.veli.repository;
+
+import java.util.List;
+import sn.veli.domain.Day;
+
+public interface DayRepositoryWithUpsert {
+    /**
+     * Insert the days whose date is not stored yet, in one statement. Days already stored keep their row untouched,
+     * so the call can be repeated with the same days.
+     *
+     * @param days the days to store, without id.
+     */
+    void upsertAll(List<Day> days);
+}
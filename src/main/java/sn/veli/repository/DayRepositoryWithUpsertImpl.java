@@ -0,0 +1,79 @@
+package sn.veli.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.query.NativeQuery;
+import sn.veli.domain.Day;
+
+/**
+ * Upserts against the unique index on {@code day.date}: {@code INSERT ... ON DUPLICATE KEY UPDATE} on MySQL,
+ * a standard {@code MERGE} elsewhere.
+ * <p>
+ * Ids come from the same pooled generator as the entities, an id drawn for a date already stored is simply not used.
+ * The statement is declared on the {@code day} table, so Hibernate invalidates the cached days and queries as it does
+ * after its own writes.
+ */
+public class DayRepositoryWithUpsertImpl implements DayRepositoryWithUpsert {
+
+    private static final String MYSQL_INSERT = "INSERT INTO day (id, date, day_of_week) VALUES ";
+
+    private static final String MYSQL_ROW = "(?, ?, ?)";
+
+    private static final String MYSQL_ON_DUPLICATE = " ON DUPLICATE KEY UPDATE id = id";
+
+    private static final String MERGE = "MERGE INTO day d USING (VALUES ";
+
+    private static final String MERGE_ROW = "(CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS VARCHAR(255)))";
+
+    private static final String MERGE_MATCH =
+        ") n (id, date, day_of_week) ON d.date = n.date" +
+        " WHEN NOT MATCHED THEN INSERT (id, date, day_of_week) VALUES (n.id, n.date, n.day_of_week)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void upsertAll(List<Day> days) {
+        if (days.isEmpty()) {
+            return;
+        }
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        boolean mysql = session.getJdbcServices().getDialect() instanceof MySQLDialect;
+        NativeQuery<?> query = session.createNativeQuery(mysql ? mysqlUpsert(days.size()) : merge(days.size()));
+        query.addSynchronizedEntityClass(Day.class);
+
+        IdentifierGenerator idGenerator = session.getFactory().getMappingMetamodel().getEntityDescriptor(Day.class).getIdentifierGenerator();
+        int position = 1;
+        for (Day day : days) {
+            query.setParameter(position++, idGenerator.generate(session, day));
+            query.setParameter(position++, day.getDate());
+            query.setParameter(position++, day.getDayOfWeek());
+        }
+        query.executeUpdate();
+    }
+
+    private static String mysqlUpsert(int rows) {
+        StringBuilder sql = new StringBuilder(MYSQL_INSERT);
+        appendRows(sql, MYSQL_ROW, rows);
+        return sql.append(MYSQL_ON_DUPLICATE).toString();
+    }
+
+    private static String merge(int rows) {
+        StringBuilder sql = new StringBuilder(MERGE);
+        appendRows(sql, MERGE_ROW, rows);
+        return sql.append(MERGE_MATCH).toString();
+    }
+
+    private static void appendRows(StringBuilder sql, String row, int rows) {
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package sn.veli.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import sn.veli.service.calendar.BusinessCalendar;
+import sn.veli.service.dto.AddBusinessDaysDTO;
+
+/**
+ * Service Interface for the working days of the configured weekend and holiday sets.
+ */
+public interface BusinessCalendarService {
+    /**
+     * Get the business calendar of a holiday set.
+     *
+     * @param holidaySet the name of the holiday set, {@code null} or empty for the default one.
+     * @return the calendar, or empty if the holiday set is unknown.
+     */
+    Optional<BusinessCalendar> findCalendar(String holidaySet);
+
+    /**
+     * Add working days to dates, each in its own holiday set.
+     *
+     * @param additions the dates, numbers of days and holiday sets.
+     * @return one outcome per addition, in input order, with the working day reached or an error.
+     */
+    List<AddBusinessDaysDTO> addBusinessDays(List<AddBusinessDaysDTO> additions);
+
+    /**
+     * @return the name of the holiday set used when none is given, {@code null} for weekends only.
+     */
+    String getDefaultHolidaySet();
+
+    /**
+     * @return the holidays, by name of set.
+     */
+    Map<String, Set<LocalDate>> getHolidaySets();
+
+    /**
+     * Add a holiday set, or replace its holidays. Requests already running keep the previous calendar.
+     *
+     * @param name the name of the holiday set.
+     * @param holidays the holidays.
+     */
+    void saveHolidaySet(String name, Set<LocalDate> holidays);
+
+    /**
+     * Remove a holiday set, other than the default one.
+     *
+     * @param name the name of the holiday set.
+     * @return {@code true} if the holiday set existed.
+     */
+    boolean deleteHolidaySet(String name);
+}
@@ -1,10 +1,15 @@
 package sn.veli.service;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-
+import java.util.function.Consumer;
+import org.springframework.data.domain.Slice;
 import sn.veli.domain.Day;
+import sn.veli.service.calendar.DatePattern;
+import sn.veli.service.calendar.DayCursor;
 import sn.veli.service.dto.DayDTO;
+import sn.veli.service.dto.DayLookupDTO;
 
 /**
  * Service Interface for managing {@link sn.veli.domain.Day}.
@@ -19,30 +24,66 @@ public interface DayService {
     DayDTO save(DayDTO dayDTO);
 
     /**
-     * Updates a day.
+     * Save many new days in one transaction.
+     * <p>
+     * Days are inserted with JDBC batching and the persistence context is flushed and cleared every
+     * {@code application.days.bulk-chunk-size} days.
+     *
+     * @param dayDTOs the entities to save.
+     * @return the persisted entities, in the same order.
+     */
+    List<DayDTO> saveAll(List<DayDTO> dayDTOs);
+
+    /**
+     * Updates a day, with a single conditional {@code UPDATE}, if it still has the version of the DTO.
      *
      * @param dayDTO the entity to update.
-     * @return the persisted entity.
+     * @return the persisted entity, with its new version, or empty if the day does not exist.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the day has another version.
      */
-    DayDTO update(DayDTO dayDTO);
+    Optional<DayDTO> update(DayDTO dayDTO);
 
     /**
-     * Partially updates a day.
+     * Partially updates a day, with a single conditional {@code UPDATE}, if it still has the version of the DTO.
+     * The fields left {@code null} are kept, the updated day is then read back.
      *
      * @param dayDTO the entity to update partially.
-     * @return the persisted entity.
+     * @return the persisted entity, with its new version, or empty if the day does not exist.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the day has another version.
      */
     Optional<DayDTO> partialUpdate(DayDTO dayDTO);
 
     /**
-     * Get all the days.
+     * Get one page of the days between two dates, both included, using the index on the date.
+     * <p>
+     * The next page is read with {@code from} set to the day after the last date of this page.
+     *
+     * @param from the first date, {@code null} for no lower bound.
+     * @param to the last date, {@code null} for no upper bound.
+     * @param size the maximum number of days.
+     * @return the days, ordered by date.
+     */
+    Slice<DayDTO> findAll(LocalDate from, LocalDate to, int size);
+
+    /**
+     * Get the number of days, counted at most once per {@code application.days.count-ttl}.
+     *
+     * @return the approximate number of days.
+     */
+    long countEstimate();
+
+    /**
+     * Pass every day, ordered by date, to an action while they are read from the database.
+     * <p>
+     * Days are read through a forward-only cursor and are not kept, so memory use does not depend on the
+     * number of days. An exception thrown by the action stops the export and is rethrown.
      *
-     * @return the list of entities.
+     * @param action the action to perform on each day.
      */
-    List<DayDTO> findAll();
+    void exportAll(Consumer<DayDTO> action);
 
     /**
-     * Get the "id" day.
+     * Get the "id" day, through a cache evicted by the writes of this service once they commit.
      *
      * @param id the id of the entity.
      * @return the entity.
@@ -56,5 +97,39 @@ public interface DayService {
      */
     void delete(Long id);
 
+    /**
+     * Resolve the day of week of a date, in any {@link DatePattern} layout.
+     *
+     * @param date the date to resolve.
+     * @return a transient day holding the date and its day of week.
+     * @throws java.time.format.DateTimeParseException if the date is not valid.
+     */
     Day findDayByDateString(String date);
+
+    /**
+     * Resolve the day of week of a date without throwing on invalid input.
+     *
+     * @param date the date to resolve.
+     * @param pattern the layout of the date, {@code null} to detect it from the date.
+     * @return the day of week, or an error if the date is not valid.
+     */
+    DayLookupDTO lookupDay(String date, DatePattern pattern);
+
+    /**
+     * Resolve the day of week of each date, in order.
+     *
+     * @param dates the dates to resolve.
+     * @param pattern the layout of the dates, {@code null} to detect it from each date.
+     * @return one lookup per date, invalid dates carry an error.
+     */
+    List<DayLookupDTO> lookupDays(List<String> dates, DatePattern pattern);
+
+    /**
+     * Get a lazy cursor over every day between two dates, both included, in any {@link DatePattern} layout.
+     *
+     * @param from the first date.
+     * @param to the last date.
+     * @return the cursor, or empty if a bound is not a valid date.
+     */
+    Optional<DayCursor> findDaysInRange(String from, String to);
 }
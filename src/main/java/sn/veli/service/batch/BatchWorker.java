@@ -0,0 +1,229 @@
+package sn.veli.service.batch;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Bounded queue drained by a single background thread, in batches closed either by {@code batchSize} or by
+ * {@code flushInterval}.
+ * <p>
+ * The owner offers elements from any thread and forwards its {@link SmartLifecycle} calls, in {@link #PHASE}. On stop,
+ * the thread drains what is still queued for at most {@code shutdownTimeout}, then is interrupted and given
+ * {@link #INTERRUPT_TIMEOUT} to return from its handler; the elements left are handed to {@link Handler#abandon(List)}.
+ * <p>
+ * A handler is expected to deal with its own failures: anything it throws is logged and the batch is lost, but the
+ * thread goes on with the next one.
+ *
+ * @param <E> the type of the queued elements.
+ */
+public class BatchWorker<E> {
+
+    /**
+     * Stop after the web server (and its graceful shutdown) has stopped, so that the in-flight requests can still
+     * offer elements, and everything left in the queue is handled before exit.
+     */
+    public static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    /**
+     * How long {@link #stop()} waits for the thread once interrupted.
+     */
+    public static final Duration INTERRUPT_TIMEOUT = Duration.ofSeconds(1);
+
+    /**
+     * What the background thread does with the queued elements.
+     *
+     * @param <E> the type of the queued elements.
+     */
+    public interface Handler<E> {
+        /**
+         * Handle a batch, on the background thread. The list is reused once this returns.
+         *
+         * @param batch the elements, in queue order.
+         */
+        void handle(List<E> batch);
+
+        /**
+         * Called on the background thread when nothing was queued for {@code flushInterval}.
+         */
+        default void idle() {}
+
+        /**
+         * Called on stop with the elements that were not handled in time.
+         *
+         * @param left the elements, in queue order, never empty.
+         */
+        void abandon(List<E> left);
+    }
+
+    private final Logger log = LoggerFactory.getLogger(BatchWorker.class);
+
+    private final String name;
+
+    private final BlockingQueue<E> queue;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final Duration shutdownTimeout;
+
+    private final Handler<E> handler;
+
+    private volatile boolean running;
+
+    private Thread thread;
+
+    public BatchWorker(String name, int capacity, int batchSize, Duration flushInterval, Duration shutdownTimeout, Handler<E> handler) {
+        this.name = name;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.shutdownTimeout = shutdownTimeout;
+        this.handler = handler;
+    }
+
+    /**
+     * Queue an element, without waiting.
+     *
+     * @return {@code true} if the element was queued, {@code false} if the queue is full.
+     */
+    public boolean offer(E element) {
+        return queue.offer(element);
+    }
+
+    /**
+     * Queue an element, waiting for space if the queue is full.
+     *
+     * @return {@code true} if the element was queued, {@code false} if the queue was still full after the timeout.
+     */
+    public boolean offer(E element, Duration timeout) throws InterruptedException {
+        return queue.offer(element, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Move every queued element to a collection, so that it is not handled by the background thread.
+     *
+     * @return the number of elements moved.
+     */
+    public int drainTo(Collection<? super E> collection) {
+        return queue.drainTo(collection);
+    }
+
+    /**
+     * @return the number of queued elements.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private void run() {
+        List<E> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                E first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    idle();
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    E next = running && remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                handle(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    @SuppressWarnings("java:S1181") // an Error must not silently end the thread either
+    private void handle(List<E> batch) {
+        try {
+            handler.handle(batch);
+        } catch (RuntimeException | Error e) {
+            log.error("{} could not handle {} elements, they are lost", name, batch.size(), e);
+        }
+    }
+
+    @SuppressWarnings("java:S1181") // an Error must not silently end the thread either
+    private void idle() {
+        try {
+            handler.idle();
+        } catch (RuntimeException | Error e) {
+            log.error("{} failed while idle", name, e);
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stop the background thread, once it has handled the queue or after {@code shutdownTimeout}.
+     *
+     * @return {@code true} if it was running.
+     */
+    public boolean stop() {
+        Thread current;
+        synchronized (this) {
+            if (!running) {
+                return false;
+            }
+            running = false;
+            current = thread;
+        }
+        log.debug("Draining {} elements of {}", queue.size(), name);
+        join(current, shutdownTimeout);
+        if (current.isAlive()) {
+            current.interrupt();
+            // so that the handler is not still at work when the owner releases its resources
+            join(current, INTERRUPT_TIMEOUT);
+            if (current.isAlive()) {
+                log.warn("{} is still handling a batch after being interrupted", name);
+            }
+        }
+        List<E> left = new ArrayList<>();
+        queue.drainTo(left);
+        if (!left.isEmpty()) {
+            handler.abandon(left);
+        }
+        return true;
+    }
+
+    private static void join(Thread thread, Duration timeout) {
+        try {
+            thread.join(timeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+}
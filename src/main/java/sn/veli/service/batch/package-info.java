@@ -0,0 +1,4 @@
+/**
+ * Background batching shared by the write-behind services.
+ */
+package sn.veli.service.batch;
@@ -0,0 +1,238 @@
+package sn.veli.service.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Working days of a range of years, for one set of weekend days and holidays.
+ * <p>
+ * One bit per day, set for working days, from January 1st of the first year to December 31st of the last one, with the
+ * number of working days before each 64-day word. Whether a day is a working day is a single bit read, the number of
+ * working days between two dates is the difference of two prefix counts, each a table read and a {@code bitCount}. The
+ * next or previous working day is found one word, 64 days, at a time. Adding working days to a date is a rank followed
+ * by a select: a binary search of the prefix counts, then a search within one word.
+ * <p>
+ * Instances are immutable: a new calendar is built when the holidays change.
+ */
+public final class BusinessCalendar {
+
+    private final int fromYear;
+
+    private final int toYear;
+
+    private final long firstEpochDay;
+
+    private final long lastEpochDay;
+
+    /**
+     * Bit {@code i} is set when {@code firstEpochDay + i} is a working day. One word more than needed, so that the rank
+     * of the day after the last one is in bounds.
+     */
+    private final long[] workingDays;
+
+    /**
+     * Number of working days before each word of {@link #workingDays}.
+     */
+    private final int[] workingDaysBefore;
+
+    private final int businessDayCount;
+
+    private final int holidayCount;
+
+    private BusinessCalendar(int fromYear, int toYear, long[] workingDays, int holidayCount) {
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.firstEpochDay = CalendarEngine.toEpochDay(fromYear, 1, 1);
+        this.lastEpochDay = CalendarEngine.toEpochDay(toYear, 12, 31);
+        this.workingDays = workingDays;
+        this.workingDaysBefore = new int[workingDays.length];
+        for (int i = 1; i < workingDays.length; i++) {
+            workingDaysBefore[i] = workingDaysBefore[i - 1] + Long.bitCount(workingDays[i - 1]);
+        }
+        int last = workingDays.length - 1;
+        this.businessDayCount = workingDaysBefore[last] + Long.bitCount(workingDays[last]);
+        this.holidayCount = holidayCount;
+    }
+
+    /**
+     * Build the working days of a range of years.
+     *
+     * @param fromYear the first year, from 1.
+     * @param toYear the last year, up to 9999.
+     * @param weekend the days of week off.
+     * @param holidays the days off, those on a weekend or outside of the years are ignored.
+     * @return the calendar.
+     */
+    public static BusinessCalendar of(int fromYear, int toYear, Set<DayOfWeek> weekend, Collection<LocalDate> holidays) {
+        if (fromYear < 1 || toYear > 9999 || fromYear > toYear) {
+            throw new IllegalArgumentException("Years must be between 1 and 9999, in order: " + fromYear + " to " + toYear);
+        }
+        long firstEpochDay = CalendarEngine.toEpochDay(fromYear, 1, 1);
+        int days = (int) (CalendarEngine.toEpochDay(toYear, 12, 31) - firstEpochDay + 1);
+        long[] workingDays = new long[(days >>> 6) + 1];
+        boolean[] off = new boolean[8];
+        for (DayOfWeek dayOfWeek : weekend) {
+            off[dayOfWeek.getValue()] = true;
+        }
+        int dayOfWeek = CalendarEngine.dayOfWeekValue(firstEpochDay);
+        for (int i = 0; i < days; i++) {
+            if (!off[dayOfWeek]) {
+                workingDays[i >>> 6] |= 1L << i;
+            }
+            dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+        }
+        int holidayCount = 0;
+        for (LocalDate holiday : holidays) {
+            long i = holiday.toEpochDay() - firstEpochDay;
+            if (i >= 0 && i < days) {
+                int w = (int) (i >>> 6);
+                long mask = 1L << i;
+                // only a working day becomes a holiday, not a weekend day or a holiday listed twice
+                if ((workingDays[w] & mask) != 0) {
+                    workingDays[w] &= ~mask;
+                    holidayCount++;
+                }
+            }
+        }
+        return new BusinessCalendar(fromYear, toYear, workingDays, holidayCount);
+    }
+
+    public int getFromYear() {
+        return fromYear;
+    }
+
+    public int getToYear() {
+        return toYear;
+    }
+
+    /**
+     * @return the number of distinct holidays on a working day of the week within the years of the calendar.
+     */
+    public int getHolidayCount() {
+        return holidayCount;
+    }
+
+    /**
+     * @return whether the epoch day is within the years of the calendar.
+     */
+    public boolean covers(long epochDay) {
+        return epochDay >= firstEpochDay && epochDay <= lastEpochDay;
+    }
+
+    /**
+     * @param epochDay a date covered by the calendar, as an epoch day.
+     * @return whether it is a working day.
+     */
+    public boolean isBusinessDay(long epochDay) {
+        int i = index(epochDay);
+        return (workingDays[i >>> 6] & 1L << i) != 0;
+    }
+
+    /**
+     * @param epochDay a date covered by the calendar, as an epoch day.
+     * @return the first working day after it, or {@link CalendarEngine#INVALID} if there is none in the calendar.
+     */
+    public long nextBusinessDay(long epochDay) {
+        int i = index(epochDay) + 1;
+        int word = i >>> 6;
+        long bits = workingDays[word] & -1L << i;
+        while (bits == 0) {
+            if (++word == workingDays.length) {
+                return CalendarEngine.INVALID;
+            }
+            bits = workingDays[word];
+        }
+        return firstEpochDay + ((long) word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * @param epochDay a date covered by the calendar, as an epoch day.
+     * @return the last working day before it, or {@link CalendarEngine#INVALID} if there is none in the calendar.
+     */
+    public long previousBusinessDay(long epochDay) {
+        int i = index(epochDay) - 1;
+        if (i < 0) {
+            return CalendarEngine.INVALID;
+        }
+        int word = i >>> 6;
+        long bits = workingDays[word] & -1L >>> (63 - (i & 63));
+        while (bits == 0) {
+            if (--word < 0) {
+                return CalendarEngine.INVALID;
+            }
+            bits = workingDays[word];
+        }
+        return firstEpochDay + ((long) word << 6) + 63 - Long.numberOfLeadingZeros(bits);
+    }
+
+    /**
+     * @param fromEpochDay the first date, covered by the calendar, as an epoch day.
+     * @param toEpochDay the last date, covered by the calendar, as an epoch day.
+     * @return the number of working days from the first date to the last one, both included, 0 if the last date is
+     * before the first one.
+     */
+    public int countBusinessDays(long fromEpochDay, long toEpochDay) {
+        int from = index(fromEpochDay);
+        int to = index(toEpochDay);
+        return to < from ? 0 : rank(to + 1) - rank(from);
+    }
+
+    /**
+     * Add working days to a date: with {@code n > 0}, the n-th working day after it, with {@code n < 0}, the n-th
+     * working day before it, whether or not the date itself is a working day. Adding 0 days returns the date.
+     *
+     * @param epochDay a date covered by the calendar, as an epoch day.
+     * @param n the number of working days to add, negative to subtract.
+     * @return the working day, or {@link CalendarEngine#INVALID} if it is not in the calendar.
+     */
+    public long addBusinessDays(long epochDay, int n) {
+        int i = index(epochDay);
+        if (n == 0) {
+            return epochDay;
+        }
+        // rank of the target among all the working days of the calendar, from 0
+        long target = n > 0 ? (long) rank(i + 1) + n - 1 : (long) rank(i) + n;
+        if (target < 0 || target >= businessDayCount) {
+            return CalendarEngine.INVALID;
+        }
+        return firstEpochDay + select((int) target);
+    }
+
+    /**
+     * @return the index of the working day of rank {@code k}, which must exist.
+     */
+    private int select(int k) {
+        // last word with fewer than k + 1 working days before it
+        int low = 0;
+        int high = workingDaysBefore.length - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (workingDaysBefore[middle] <= k) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        long bits = workingDays[low];
+        for (int skip = k - workingDaysBefore[low]; skip > 0; skip--) {
+            bits &= bits - 1;
+        }
+        return (low << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * @return the number of working days before the day at index {@code i}.
+     */
+    private int rank(int i) {
+        return workingDaysBefore[i >>> 6] + Long.bitCount(workingDays[i >>> 6] & (1L << i) - 1);
+    }
+
+    private int index(long epochDay) {
+        if (!covers(epochDay)) {
+            throw new IllegalArgumentException("Business days are only known from " + fromYear + " to " + toYear);
+        }
+        return (int) (epochDay - firstEpochDay);
+    }
+}
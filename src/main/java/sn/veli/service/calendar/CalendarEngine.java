@@ -0,0 +1,138 @@
+package sn.veli.service.calendar;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Allocation-free calendar arithmetic for the proleptic ISO calendar.
+ * <p>
+ * Dates are handled as epoch days (days since 1970-01-01, the same value as
+ * {@link java.time.LocalDate#toEpochDay()}) so that parsing and weekday resolution
+ * never create intermediate objects. Results are identical to {@code java.time}
+ * for every valid date between years 1 and 9999.
+ */
+public final class CalendarEngine {
+
+    /**
+     * Returned by the parse methods when the input is not a valid date.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+
+    private static final DayOfWeek[] DAYS_OF_WEEK = DayOfWeek.values();
+
+    private CalendarEngine() {}
+
+    /**
+     * Parse a date in the given layout, or in the layout detected from its shape.
+     *
+     * @param text the text to parse, may be {@code null}.
+     * @param pattern the layout of the text, {@code null} to detect it.
+     * @return the epoch day, or {@link #INVALID} if the text is not a valid date.
+     */
+    public static long parseEpochDay(CharSequence text, DatePattern pattern) {
+        DatePattern datePattern = pattern != null ? pattern : DatePattern.detect(text);
+        return datePattern == null ? INVALID : datePattern.parseEpochDay(text);
+    }
+
+    /**
+     * Open a cursor over the dates from {@code from} to {@code to}, both included.
+     * The layout of each bound is detected from its shape.
+     *
+     * @return the cursor, empty if {@code from} is after {@code to}, or {@code null} if a bound is not a valid date.
+     */
+    public static DayCursor range(CharSequence from, CharSequence to) {
+        long first = parseEpochDay(from, null);
+        long last = parseEpochDay(to, null);
+        if (first == INVALID || last == INVALID) {
+            return null;
+        }
+        LocalDate start = LocalDate.ofEpochDay(first);
+        return new DayCursor(start.getYear(), start.getMonthValue(), start.getDayOfMonth(), first, last);
+    }
+
+    /**
+     * Convert a year, month and day into an epoch day after validating them.
+     *
+     * @return the epoch day, or {@link #INVALID} if the fields do not form a date between years 1 and 9999.
+     */
+    public static long toEpochDayOrInvalid(int year, int month, int day) {
+        if (!isValidDate(year, month, day)) {
+            return INVALID;
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    public static boolean isValidDate(int year, int month, int day) {
+        return year >= 1 && year <= 9999 && month >= 1 && month <= 12 && day >= 1 && day <= lengthOfMonth(year, month);
+    }
+
+    public static boolean isLeapYear(int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    public static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> isLeapYear(year) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * Same algorithm as {@link java.time.LocalDate#toEpochDay()}, without the object.
+     * The fields are expected to be valid.
+     */
+    public static long toEpochDay(int year, int month, int day) {
+        long y = year;
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * @return the ISO day-of-week value of the epoch day, from 1 (Monday) to 7 (Sunday).
+     */
+    public static int dayOfWeekValue(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L) + 1;
+    }
+
+    /**
+     * @return the cached {@link DayOfWeek} constant of the epoch day.
+     */
+    public static DayOfWeek dayOfWeek(long epochDay) {
+        return DAYS_OF_WEEK[dayOfWeekValue(epochDay) - 1];
+    }
+
+    /**
+     * Read the decimal digits in {@code [from, to)}.
+     *
+     * @return the value, or {@code -1} if a character is not an ASCII digit.
+     */
+    static int digits(CharSequence text, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
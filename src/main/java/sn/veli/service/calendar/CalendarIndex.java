@@ -0,0 +1,154 @@
+package sn.veli.service.calendar;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-day metadata of every date between years 1 and 9999, keyed by epoch day and packed in an {@code int}.
+ * <p>
+ * The three low bits of a packed day hold its ISO day-of-week value, the bits above hold its flags such as
+ * {@link #PERSISTED} or {@link #HOLIDAY}. The day of week is computed, which costs no more than reading it; only the
+ * flags are stored, one byte per day, in chunks of {@value #CHUNK_SIZE} days allocated when a day of the chunk is first
+ * flagged. Three hundred flagged years take about 125 KB with the chunk table, and reading a day allocates nothing.
+ * <p>
+ * Flags are updated atomically and may be read and written from any thread.
+ */
+@Component
+public class CalendarIndex {
+
+    /**
+     * The day is stored in the {@code day} table, or queued to be, by this instance.
+     */
+    public static final int PERSISTED = 1;
+
+    /**
+     * The day is a public holiday.
+     */
+    public static final int HOLIDAY = 1 << 1;
+
+    private static final int FLAGS_SHIFT = 3;
+
+    private static final int DAY_OF_WEEK_MASK = (1 << FLAGS_SHIFT) - 1;
+
+    private static final int CHUNK_BITS = 10;
+
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+    private static final long FIRST_EPOCH_DAY = LocalDate.of(1, 1, 1).toEpochDay();
+
+    private static final long LAST_EPOCH_DAY = LocalDate.of(9999, 12, 31).toEpochDay();
+
+    private static final VarHandle FLAGS = MethodHandles.arrayElementVarHandle(byte[].class);
+
+    private final AtomicReferenceArray<byte[]> chunks = new AtomicReferenceArray<>(
+        (int) ((LAST_EPOCH_DAY - FIRST_EPOCH_DAY) >> CHUNK_BITS) + 1
+    );
+
+    /**
+     * @return whether the epoch day is between years 1 and 9999, the only days that can be flagged.
+     */
+    public static boolean contains(long epochDay) {
+        return epochDay >= FIRST_EPOCH_DAY && epochDay <= LAST_EPOCH_DAY;
+    }
+
+    /**
+     * Read a day, outside of years 1 to 9999 it has no flags.
+     *
+     * @param epochDay the date, as an epoch day.
+     * @return the packed day.
+     */
+    public int get(long epochDay) {
+        int packed = CalendarEngine.dayOfWeekValue(epochDay);
+        if (!contains(epochDay)) {
+            return packed;
+        }
+        long offset = epochDay - FIRST_EPOCH_DAY;
+        byte[] chunk = chunks.get((int) (offset >> CHUNK_BITS));
+        if (chunk == null) {
+            return packed;
+        }
+        byte flags = (byte) FLAGS.getAcquire(chunk, (int) offset & (CHUNK_SIZE - 1));
+        return packed | (flags & 0xFF) << FLAGS_SHIFT;
+    }
+
+    /**
+     * Set flags on a day.
+     *
+     * @param epochDay the date, as an epoch day, between years 1 and 9999.
+     * @param flags the flags to set.
+     * @return {@code true} if one of the flags was not set yet.
+     */
+    public boolean addFlags(long epochDay, int flags) {
+        long offset = offset(epochDay);
+        byte[] chunk = chunks.get((int) (offset >> CHUNK_BITS));
+        if (chunk == null) {
+            chunk = allocate((int) (offset >> CHUNK_BITS));
+        }
+        byte previous = (byte) FLAGS.getAndBitwiseOr(chunk, (int) offset & (CHUNK_SIZE - 1), (byte) flags);
+        return (previous & flags) != flags;
+    }
+
+    /**
+     * Clear flags of a day.
+     *
+     * @param epochDay the date, as an epoch day, between years 1 and 9999.
+     * @param flags the flags to clear.
+     */
+    public void removeFlags(long epochDay, int flags) {
+        long offset = offset(epochDay);
+        byte[] chunk = chunks.get((int) (offset >> CHUNK_BITS));
+        if (chunk != null) {
+            FLAGS.getAndBitwiseAnd(chunk, (int) offset & (CHUNK_SIZE - 1), (byte) ~flags);
+        }
+    }
+
+    /**
+     * @return the number of bytes of flags allocated so far.
+     */
+    public long allocatedBytes() {
+        long allocated = 0;
+        for (int i = 0; i < chunks.length(); i++) {
+            if (chunks.get(i) != null) {
+                allocated += CHUNK_SIZE;
+            }
+        }
+        return allocated;
+    }
+
+    private static long offset(long epochDay) {
+        if (!contains(epochDay)) {
+            throw new IllegalArgumentException("Only the days of years 1 to 9999 have flags: " + epochDay);
+        }
+        return epochDay - FIRST_EPOCH_DAY;
+    }
+
+    private byte[] allocate(int index) {
+        byte[] chunk = new byte[CHUNK_SIZE];
+        return chunks.compareAndSet(index, null, chunk) ? chunk : chunks.get(index);
+    }
+
+    /**
+     * @return the ISO day-of-week value of a packed day, from 1 (Monday) to 7 (Sunday).
+     */
+    public static int dayOfWeekValue(int packed) {
+        return packed & DAY_OF_WEEK_MASK;
+    }
+
+    /**
+     * @return the cached {@link DayOfWeek} constant of a packed day.
+     */
+    public static DayOfWeek dayOfWeek(int packed) {
+        return DayOfWeek.of(dayOfWeekValue(packed));
+    }
+
+    /**
+     * @return whether a packed day has all the given flags.
+     */
+    public static boolean hasFlags(int packed, int flags) {
+        return (packed >>> FLAGS_SHIFT & flags) == flags;
+    }
+}
@@ -0,0 +1,192 @@
+package sn.veli.service.calendar;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.domain.Day;
+import sn.veli.repository.DayRepository;
+
+/**
+ * Fills the {@code day} table with every date of a range of years, as a background job.
+ * <p>
+ * The days are computed in parallel, a few years at a time, then the dates missing from the table are upserted year by
+ * year: {@code batch-size} rows per statement and one transaction per year. The job can be run again over any range,
+ * stored dates are kept and the dates recorded meanwhile by the {@link DayRecorder} are not duplicated.
+ */
+@Service
+public class CalendarTableGenerator {
+
+    /**
+     * Years computed together, one per task of the common pool.
+     */
+    private static final int YEARS_PER_WINDOW = 32;
+
+    public enum Status {
+        IDLE,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+    }
+
+    /**
+     * State of the last run.
+     */
+    public record Progress(
+        Status status,
+        int fromYear,
+        int toYear,
+        long totalDays,
+        long processedDays,
+        long insertedDays,
+        Instant startedAt,
+        Instant finishedAt,
+        String error
+    ) {}
+
+    private final Logger log = LoggerFactory.getLogger(CalendarTableGenerator.class);
+
+    private final DayRepository dayRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Executor executor;
+
+    private final int batchSize;
+
+    private volatile Progress progress = new Progress(Status.IDLE, 0, 0, 0, 0, 0, null, null, null);
+
+    public CalendarTableGenerator(
+        DayRepository dayRepository,
+        PlatformTransactionManager transactionManager,
+        @Qualifier("taskExecutor") Executor executor,
+        ApplicationProperties applicationProperties
+    ) {
+        this.dayRepository = dayRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.batchSize = applicationProperties.getCalendar().getTable().getBatchSize();
+    }
+
+    /**
+     * Compute the days of each year of a range, with their day of week, and hand them over year by year in order.
+     *
+     * @param fromYear the first year.
+     * @param toYear the last year, included.
+     * @param action called with the days of each year, from the calling thread.
+     */
+    public static void forEachYear(int fromYear, int toYear, Consumer<List<Day>> action) {
+        for (int windowStart = fromYear; windowStart <= toYear; windowStart += YEARS_PER_WINDOW) {
+            IntStream
+                .rangeClosed(windowStart, Math.min(windowStart + YEARS_PER_WINDOW - 1, toYear))
+                .parallel()
+                .mapToObj(CalendarTableGenerator::daysOf)
+                .toList()
+                .forEach(action);
+        }
+    }
+
+    private static List<Day> daysOf(int year) {
+        long first = CalendarEngine.toEpochDay(year, 1, 1);
+        int length = CalendarEngine.isLeapYear(year) ? 366 : 365;
+        List<Day> days = new ArrayList<>(length);
+        for (long epochDay = first; epochDay < first + length; epochDay++) {
+            days.add(new Day().date(LocalDate.ofEpochDay(epochDay)).dayOfWeek(CalendarEngine.dayOfWeek(epochDay).name()));
+        }
+        return days;
+    }
+
+    public Progress getProgress() {
+        return progress;
+    }
+
+    /**
+     * Start filling the table, unless a run is already in progress.
+     *
+     * @param fromYear the first year, from 1.
+     * @param toYear the last year, included, up to 9999.
+     * @return the progress of the run started, or of the run in progress.
+     * @throws IllegalArgumentException if the years are out of range or in the wrong order.
+     */
+    public synchronized Progress start(int fromYear, int toYear) {
+        if (fromYear < 1 || toYear > 9999 || fromYear > toYear) {
+            throw new IllegalArgumentException("The years must be between 1 and 9999, in order: " + fromYear + " to " + toYear);
+        }
+        if (progress.status() == Status.RUNNING) {
+            return progress;
+        }
+        long totalDays = CalendarEngine.toEpochDay(toYear, 12, 31) - CalendarEngine.toEpochDay(fromYear, 1, 1) + 1;
+        progress = new Progress(Status.RUNNING, fromYear, toYear, totalDays, 0, 0, Instant.now(), null, null);
+        log.info("Filling the day table from {} to {}", fromYear, toYear);
+        executor.execute(this::run);
+        return progress;
+    }
+
+    private void run() {
+        Progress current = progress;
+        try {
+            forEachYear(
+                current.fromYear(),
+                current.toYear(),
+                days -> {
+                    Integer inserted = transactionTemplate.execute(status -> insertMissing(days));
+                    Progress last = progress;
+                    progress =
+                        new Progress(
+                            Status.RUNNING,
+                            last.fromYear(),
+                            last.toYear(),
+                            last.totalDays(),
+                            last.processedDays() + days.size(),
+                            last.insertedDays() + inserted,
+                            last.startedAt(),
+                            null,
+                            null
+                        );
+                }
+            );
+            finish(Status.COMPLETED, null);
+            log.info("Filled the day table from {} to {}: {} days inserted", current.fromYear(), current.toYear(), progress.insertedDays());
+        } catch (RuntimeException e) {
+            finish(Status.FAILED, e.getMessage());
+            log.error("Could not fill the day table from {} to {}", current.fromYear(), current.toYear(), e);
+        }
+    }
+
+    private int insertMissing(List<Day> days) {
+        Set<LocalDate> stored = new HashSet<>(dayRepository.findDatesBetween(days.get(0).getDate(), days.get(days.size() - 1).getDate()));
+        List<Day> missing = days.stream().filter(day -> !stored.contains(day.getDate())).toList();
+        for (int i = 0; i < missing.size(); i += batchSize) {
+            dayRepository.upsertAll(missing.subList(i, Math.min(i + batchSize, missing.size())));
+        }
+        return missing.size();
+    }
+
+    private void finish(Status status, String error) {
+        Progress last = progress;
+        progress =
+            new Progress(
+                status,
+                last.fromYear(),
+                last.toYear(),
+                last.totalDays(),
+                last.processedDays(),
+                last.insertedDays(),
+                last.startedAt(),
+                Instant.now(),
+                error
+            );
+    }
+}
@@ -0,0 +1,126 @@
+package sn.veli.service.calendar;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Registry of the accepted date layouts.
+ * <p>
+ * Each layout has a hand-written parser used by the fast engine, and a {@link DateTimeFormatter}
+ * compiled once for the {@code java-time} engine. The layout of an input is detected from its shape
+ * (length and separator positions), without trying the parsers one after the other.
+ */
+public enum DatePattern {
+    /**
+     * {@code dd-MM-yyyy}, the historical layout.
+     */
+    DAY_MONTH_YEAR("dd-MM-yyyy", 0, 3, 6),
+    /**
+     * ISO {@code yyyy-MM-dd}.
+     */
+    ISO("yyyy-MM-dd", 8, 5, 0),
+    /**
+     * {@code dd/MM/yyyy}.
+     */
+    DAY_MONTH_YEAR_SLASH("dd/MM/yyyy", 0, 3, 6),
+    /**
+     * Compact {@code yyyyMMdd}.
+     */
+    BASIC("yyyyMMdd", 6, 4, 0);
+
+    private static final DatePattern[] VALUES = values();
+
+    private final String pattern;
+
+    private final DateTimeFormatter formatter;
+
+    private final int dayOffset;
+
+    private final int monthOffset;
+
+    private final int yearOffset;
+
+    DatePattern(String pattern, int dayOffset, int monthOffset, int yearOffset) {
+        this.pattern = pattern;
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
+        this.dayOffset = dayOffset;
+        this.monthOffset = monthOffset;
+        this.yearOffset = yearOffset;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return the formatter used by the {@code java-time} engine, compiled once.
+     */
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    /**
+     * Parse the text with this layout.
+     *
+     * @return the epoch day, or {@link CalendarEngine#INVALID} if the text does not match this layout or is not a valid date.
+     */
+    public long parseEpochDay(CharSequence text) {
+        if (text == null || text.length() != pattern.length()) {
+            return CalendarEngine.INVALID;
+        }
+        for (int i = 0; i < pattern.length(); i++) {
+            char separator = pattern.charAt(i);
+            if ((separator == '-' || separator == '/') && text.charAt(i) != separator) {
+                return CalendarEngine.INVALID;
+            }
+        }
+        int day = CalendarEngine.digits(text, dayOffset, dayOffset + 2);
+        int month = CalendarEngine.digits(text, monthOffset, monthOffset + 2);
+        int year = CalendarEngine.digits(text, yearOffset, yearOffset + 4);
+        if (day < 0 || month < 0 || year < 0) {
+            return CalendarEngine.INVALID;
+        }
+        return CalendarEngine.toEpochDayOrInvalid(year, month, day);
+    }
+
+    /**
+     * Detect the layout of a text from its shape.
+     *
+     * @return the layout, or {@code null} if the text does not look like any of them.
+     */
+    public static DatePattern detect(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        if (text.length() == 8) {
+            return BASIC;
+        }
+        if (text.length() != 10) {
+            return null;
+        }
+        char third = text.charAt(2);
+        if (third == '-' && text.charAt(5) == '-') {
+            return DAY_MONTH_YEAR;
+        }
+        if (third == '/' && text.charAt(5) == '/') {
+            return DAY_MONTH_YEAR_SLASH;
+        }
+        if (text.charAt(4) == '-' && text.charAt(7) == '-') {
+            return ISO;
+        }
+        return null;
+    }
+
+    /**
+     * Find a layout by its pattern (for example {@code yyyy-MM-dd}) or its name (for example {@code iso}).
+     *
+     * @return the layout, or {@code null} if none matches.
+     */
+    public static DatePattern fromFormat(String format) {
+        for (DatePattern datePattern : VALUES) {
+            if (datePattern.pattern.equals(format) || datePattern.name().equalsIgnoreCase(format)) {
+                return datePattern;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,109 @@
+package sn.veli.service.calendar;
+
+import java.time.DayOfWeek;
+
+/**
+ * Forward-only cursor over the days of an inclusive date range.
+ * <p>
+ * The cursor keeps the current date both as an epoch day and as {@code dd-MM-yyyy} characters,
+ * advancing them incrementally, so walking a range of any length allocates nothing per day.
+ * A cursor is not thread-safe.
+ */
+public final class DayCursor {
+
+    private final long firstEpochDay;
+
+    private final long lastEpochDay;
+
+    private final char[] date = new char[10];
+
+    private long epochDay;
+
+    private int year;
+
+    private int month;
+
+    private int day;
+
+    private int dayOfWeek;
+
+    private boolean started;
+
+    DayCursor(int year, int month, int day, long firstEpochDay, long lastEpochDay) {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.firstEpochDay = firstEpochDay;
+        this.lastEpochDay = lastEpochDay;
+        this.epochDay = firstEpochDay;
+        this.dayOfWeek = CalendarEngine.dayOfWeekValue(firstEpochDay);
+        date[2] = '-';
+        date[5] = '-';
+    }
+
+    /**
+     * @return the number of days in the range, {@code 0} if the range is empty.
+     */
+    public long size() {
+        return Math.max(0, lastEpochDay - firstEpochDay + 1);
+    }
+
+    /**
+     * Move to the next day of the range, the first call moves to the first day.
+     *
+     * @return {@code false} once the range is exhausted.
+     */
+    public boolean next() {
+        if (!started) {
+            started = true;
+            if (firstEpochDay > lastEpochDay) {
+                return false;
+            }
+        } else {
+            if (epochDay >= lastEpochDay) {
+                return false;
+            }
+            epochDay++;
+            dayOfWeek = dayOfWeek == 7 ? 1 : dayOfWeek + 1;
+            if (day < CalendarEngine.lengthOfMonth(year, month)) {
+                day++;
+            } else if (month < 12) {
+                day = 1;
+                month++;
+            } else {
+                day = 1;
+                month = 1;
+                year++;
+            }
+        }
+        writeTwoDigits(day, 0);
+        writeTwoDigits(month, 3);
+        writeTwoDigits(year / 100, 6);
+        writeTwoDigits(year % 100, 8);
+        return true;
+    }
+
+    private void writeTwoDigits(int value, int offset) {
+        date[offset] = (char) ('0' + value / 10);
+        date[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    public long epochDay() {
+        return epochDay;
+    }
+
+    /**
+     * @return the current date as {@code dd-MM-yyyy}; the array is reused, its content changes on {@link #next()}.
+     */
+    public char[] date() {
+        return date;
+    }
+
+    public DayOfWeek dayOfWeek() {
+        return DayOfWeek.of(dayOfWeek);
+    }
+
+    public int dayOfWeekValue() {
+        return dayOfWeek;
+    }
+}
@@ -0,0 +1,205 @@
+package sn.veli.service.calendar;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.domain.Day;
+import sn.veli.repository.DayRepository;
+import sn.veli.service.batch.BatchWorker;
+
+/**
+ * Stores the dates resolved by the dayfinder in the {@code day} table, without the request thread waiting on the database.
+ * <p>
+ * In {@link ApplicationProperties.Calendar.Persistence.Mode#WRITE_BEHIND} mode, the {@link CalendarIndex#PERSISTED} flag
+ * remembers the dates already queued or stored by this instance: a date seen again costs a single read. New dates go
+ * to a {@link BatchWorker}, whose background thread upserts them in batches closed by {@code batch-size} or
+ * {@code flush-interval}. The upsert leaves dates stored by another instance untouched.
+ * <p>
+ * A date that could not be queued or written, or whose day is deleted, is forgotten, so that it is recorded again the
+ * next time it is resolved.
+ */
+@Service
+public class DayRecorder implements SmartLifecycle, BatchWorker.Handler<Long> {
+
+    public static final String DAYS_METER_NAME = "calendar.days";
+    public static final String QUEUE_DEPTH_METER_NAME = "calendar.days.queue.depth";
+
+    private final Logger log = LoggerFactory.getLogger(DayRecorder.class);
+
+    private final DayRepository dayRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ApplicationProperties.Calendar.Persistence properties;
+
+    private final boolean enabled;
+
+    private final CalendarIndex calendarIndex;
+
+    private final BatchWorker<Long> worker;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    public DayRecorder(
+        DayRepository dayRepository,
+        CalendarIndex calendarIndex,
+        PlatformTransactionManager transactionManager,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.dayRepository = dayRepository;
+        this.calendarIndex = calendarIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = applicationProperties.getCalendar().getPersistence();
+        this.enabled = properties.getMode() == ApplicationProperties.Calendar.Persistence.Mode.WRITE_BEHIND;
+        this.worker = enabled
+            ? new BatchWorker<>(
+                "day-recorder",
+                properties.getQueueCapacity(),
+                properties.getBatchSize(),
+                properties.getFlushInterval(),
+                properties.getShutdownTimeout(),
+                this
+            )
+            : null;
+
+        if (enabled) {
+            Gauge
+                .builder(QUEUE_DEPTH_METER_NAME, worker, BatchWorker::size)
+                .description("Days waiting to be stored")
+                .register(meterRegistry);
+        }
+        this.enqueuedCounter = daysCounter("enqueued", meterRegistry);
+        this.droppedCounter = daysCounter("dropped", meterRegistry);
+        this.writtenCounter = daysCounter("written", meterRegistry);
+        this.failedCounter = daysCounter("failed", meterRegistry);
+    }
+
+    private static Counter daysCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter
+            .builder(DAYS_METER_NAME)
+            .description("Resolved days recorded in the database, by outcome")
+            .baseUnit("days")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Record a resolved date, unless this instance already did. Never blocks.
+     *
+     * @param epochDay the date, as an epoch day.
+     * @return the day, packed by the {@link CalendarIndex} as it was before being recorded.
+     */
+    public int record(long epochDay) {
+        int packed = calendarIndex.get(epochDay);
+        // only the lenient java-time engine resolves dates outside of years 1 to 9999, they are not recorded
+        if (
+            !enabled ||
+            !CalendarIndex.contains(epochDay) ||
+            CalendarIndex.hasFlags(packed, CalendarIndex.PERSISTED) ||
+            !calendarIndex.addFlags(epochDay, CalendarIndex.PERSISTED)
+        ) {
+            return packed;
+        }
+        if (worker.offer(epochDay)) {
+            enqueuedCounter.increment();
+        } else {
+            forget(epochDay);
+            droppedCounter.increment();
+        }
+        return packed;
+    }
+
+    /**
+     * Forget that a date is stored, once the current transaction commits, so that it is recorded again the next time
+     * it is resolved. Called when its day is deleted.
+     *
+     * @param epochDay the date, as an epoch day.
+     */
+    public void forgetAfterCommit(long epochDay) {
+        if (!enabled || !CalendarIndex.contains(epochDay)) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            forget(epochDay);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forget(epochDay);
+                }
+            }
+        );
+    }
+
+    private void forget(long epochDay) {
+        calendarIndex.removeFlags(epochDay, CalendarIndex.PERSISTED);
+    }
+
+    @Override
+    public void handle(List<Long> batch) {
+        // instances writing overlapping batches lock the index entries in the same order
+        batch.sort(null);
+        List<Day> days = new ArrayList<>(batch.size());
+        for (long epochDay : batch) {
+            days.add(new Day().date(LocalDate.ofEpochDay(epochDay)).dayOfWeek(CalendarEngine.dayOfWeek(epochDay).name()));
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> dayRepository.upsertAll(days));
+            writtenCounter.increment(days.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(days.size());
+            log.warn("Could not store {} days: {}", days.size(), e.getMessage());
+            for (long epochDay : batch) {
+                forget(epochDay);
+            }
+        }
+    }
+
+    @Override
+    public void abandon(List<Long> left) {
+        droppedCounter.increment(left.size());
+        log.warn("{} days were not stored before shutdown", left.size());
+    }
+
+    @Override
+    public void start() {
+        if (enabled) {
+            worker.start();
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (enabled) {
+            worker.stop();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return enabled && worker.isRunning();
+    }
+
+    @Override
+    public int getPhase() {
+        return BatchWorker.PHASE;
+    }
+}
@@ -0,0 +1,102 @@
+package sn.veli.service.calendar;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import org.springframework.stereotype.Component;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.config.Constants;
+
+/**
+ * Month views of {@code /services/calendar/month}, rendered once as JSON and kept as bytes.
+ * <p>
+ * A grid has 6 weeks of 7 days, starting on the first day of week on or before the first of the month. Each day has its
+ * ISO date, day of week, ISO week number, and whether it is in the month. A grid never changes: the rendered bytes are
+ * kept in a Caffeine cache bounded by {@code application.calendar.month-cache-max-entries}, so a repeat request writes
+ * them as is, without computing or serializing anything. Its {@code cache.*} metrics are tagged {@code cache=monthGrid}.
+ */
+@Component
+public class MonthGridRenderer {
+
+    public static final String MONTH_GRID_CACHE = "monthGrid";
+
+    public static final int WEEKS = 6;
+
+    private final JsonFactory jsonFactory;
+
+    private final LoadingCache<Integer, byte[]> cache;
+
+    public MonthGridRenderer(ObjectMapper objectMapper, ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this.jsonFactory = objectMapper.getFactory();
+        long maxEntries = applicationProperties.getCalendar().getMonthCacheMaxEntries();
+        if (maxEntries <= 0) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder().maximumSize(maxEntries).recordStats().build(this::render);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, MONTH_GRID_CACHE, Constants.APPLICATION_CACHE_TAGS);
+    }
+
+    /**
+     * Get the JSON month grid, rendered on the first request.
+     *
+     * @param year the year, from 1 to 9999.
+     * @param month the month, from 1 to 12.
+     * @param firstDayOfWeek the day of week of the first column.
+     * @return the UTF-8 JSON of the grid, not to be modified.
+     */
+    public byte[] getMonthGrid(int year, int month, DayOfWeek firstDayOfWeek) {
+        if (year < 1 || year > 9999 || month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month: " + year + "-" + month);
+        }
+        int key = (year * 100 + month) * 10 + firstDayOfWeek.getValue();
+        return cache == null ? render(key) : cache.get(key);
+    }
+
+    private byte[] render(int key) {
+        int year = key / 1000;
+        int month = key / 10 % 100;
+        DayOfWeek firstDayOfWeek = DayOfWeek.of(key % 10);
+        long firstOfMonth = CalendarEngine.toEpochDay(year, month, 1);
+        int offset = Math.floorMod(CalendarEngine.dayOfWeekValue(firstOfMonth) - firstDayOfWeek.getValue(), 7);
+        long lastOfMonth = firstOfMonth + CalendarEngine.lengthOfMonth(year, month) - 1;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField("year", year);
+            generator.writeNumberField("month", month);
+            generator.writeStringField("firstDayOfWeek", firstDayOfWeek.name());
+            generator.writeArrayFieldStart("weeks");
+            long epochDay = firstOfMonth - offset;
+            for (int week = 0; week < WEEKS; week++) {
+                generator.writeStartArray();
+                for (int day = 0; day < 7; day++, epochDay++) {
+                    LocalDate date = LocalDate.ofEpochDay(epochDay);
+                    generator.writeStartObject();
+                    generator.writeStringField("date", date.toString());
+                    generator.writeStringField("dayOfWeek", date.getDayOfWeek().name());
+                    generator.writeNumberField("isoWeek", date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+                    generator.writeBooleanField("inMonth", epochDay >= firstOfMonth && epochDay <= lastOfMonth);
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Calendar computation engines used by the service layer.
+ */
+package sn.veli.service.calendar;
@@ -0,0 +1,96 @@
+package sn.veli.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.Serializable;
+
+/**
+ * A number of working days to add to a date, in a holiday set: the request, then its outcome, either the working day
+ * reached or an error.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AddBusinessDaysDTO implements Serializable {
+
+    public static final String INVALID_DATE = "invalid date";
+
+    public static final String MISSING_DAYS = "missing days";
+
+    public static final String UNKNOWN_HOLIDAY_SET = "unknown holiday set";
+
+    public static final String NOT_COVERED = "business days not known for this date";
+
+    private String date;
+
+    private Integer days;
+
+    private String holidays;
+
+    private String businessDay;
+
+    private String error;
+
+    public AddBusinessDaysDTO() {}
+
+    public AddBusinessDaysDTO(String date, Integer days, String holidays) {
+        this.date = date;
+        this.days = days;
+        this.holidays = holidays;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public Integer getDays() {
+        return days;
+    }
+
+    public void setDays(Integer days) {
+        this.days = days;
+    }
+
+    public String getHolidays() {
+        return holidays;
+    }
+
+    public void setHolidays(String holidays) {
+        this.holidays = holidays;
+    }
+
+    public String getBusinessDay() {
+        return businessDay;
+    }
+
+    public void setBusinessDay(String businessDay) {
+        this.businessDay = businessDay;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @JsonIgnore
+    public boolean isResolved() {
+        return error == null;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "AddBusinessDaysDTO{" +
+            "date='" + getDate() + "'" +
+            ", days=" + getDays() +
+            ", holidays='" + getHolidays() + "'" +
+            ", businessDay='" + getBusinessDay() + "'" +
+            ", error='" + getError() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,57 @@
+package sn.veli.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * Number of working days between two dates, both included.
+ */
+public class BusinessDayCountDTO implements Serializable {
+
+    private String from;
+
+    private String to;
+
+    private int businessDays;
+
+    public BusinessDayCountDTO() {}
+
+    public BusinessDayCountDTO(String from, String to, int businessDays) {
+        this.from = from;
+        this.to = to;
+        this.businessDays = businessDays;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public int getBusinessDays() {
+        return businessDays;
+    }
+
+    public void setBusinessDays(int businessDays) {
+        this.businessDays = businessDays;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BusinessDayCountDTO{" +
+            "from='" + getFrom() + "'" +
+            ", to='" + getTo() + "'" +
+            ", businessDays=" + getBusinessDays() +
+            "}";
+    }
+}
@@ -0,0 +1,57 @@
+package sn.veli.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A date, with its day of week and whether it is a working day.
+ */
+public class BusinessDayDTO implements Serializable {
+
+    private String date;
+
+    private String dayOfWeek;
+
+    private boolean businessDay;
+
+    public BusinessDayDTO() {}
+
+    public BusinessDayDTO(String date, String dayOfWeek, boolean businessDay) {
+        this.date = date;
+        this.dayOfWeek = dayOfWeek;
+        this.businessDay = businessDay;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public String getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(String dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public boolean isBusinessDay() {
+        return businessDay;
+    }
+
+    public void setBusinessDay(boolean businessDay) {
+        this.businessDay = businessDay;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BusinessDayDTO{" +
+            "date='" + getDate() + "'" +
+            ", dayOfWeek='" + getDayOfWeek() + "'" +
+            ", businessDay='" + isBusinessDay() + "'" +
+            "}";
+    }
+}
@@ -2,7 +2,9 @@ package sn.veli.service.dto;
 
 import jakarta.validation.constraints.*;
 import java.io.Serializable;
+import java.time.LocalDate;
 import java.util.Objects;
+import org.springframework.data.annotation.PersistenceCreator;
 
 /**
  * A DTO for the {@link sn.veli.domain.Day} entity.
@@ -13,11 +15,26 @@ public class DayDTO implements Serializable {
     private Long id;
 
     @NotNull
-    private String date;
+    private LocalDate date;
 
     @NotNull
     private String dayOfWeek;
 
+    private Integer version;
+
+    public DayDTO() {}
+
+    /**
+     * Used by the read-only {@link sn.veli.repository.DayRepository} queries, which select these columns directly.
+     */
+    @PersistenceCreator
+    public DayDTO(Long id, LocalDate date, String dayOfWeek, Integer version) {
+        this.id = id;
+        this.date = date;
+        this.dayOfWeek = dayOfWeek;
+        this.version = version;
+    }
+
     public Long getId() {
         return id;
     }
@@ -26,11 +43,11 @@ public class DayDTO implements Serializable {
         this.id = id;
     }
 
-    public String getDate() {
+    public LocalDate getDate() {
         return date;
     }
 
-    public void setDate(String date) {
+    public void setDate(LocalDate date) {
         this.date = date;
     }
 
@@ -42,6 +59,14 @@ public class DayDTO implements Serializable {
         this.dayOfWeek = dayOfWeek;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -70,6 +95,7 @@ public class DayDTO implements Serializable {
             "id=" + getId() +
             ", date='" + getDate() + "'" +
             ", dayOfWeek='" + getDayOfWeek() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 }
@@ -0,0 +1,67 @@
+package sn.veli.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.io.Serializable;
+
+/**
+ * Outcome of a day of week lookup: either the day of week or an error for the given date.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DayLookupDTO implements Serializable {
+
+    public static final String INVALID_DATE = "invalid date";
+
+    private String date;
+
+    private String dayOfWeek;
+
+    private String error;
+
+    public DayLookupDTO() {}
+
+    public DayLookupDTO(String date, String dayOfWeek, String error) {
+        this.date = date;
+        this.dayOfWeek = dayOfWeek;
+        this.error = error;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public void setDate(String date) {
+        this.date = date;
+    }
+
+    public String getDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    public void setDayOfWeek(String dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    @JsonIgnore
+    public boolean isResolved() {
+        return error == null;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "DayLookupDTO{" +
+            "date='" + getDate() + "'" +
+            ", dayOfWeek='" + getDayOfWeek() + "'" +
+            ", error='" + getError() + "'" +
+            "}";
+    }
+}
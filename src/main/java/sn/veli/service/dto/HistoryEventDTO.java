@@ -0,0 +1,57 @@
+package sn.veli.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * A DTO for the search events sent to the history microservice.
+ */
+public class HistoryEventDTO implements Serializable {
+
+    private String searchDate;
+
+    private String request;
+
+    private String response;
+
+    public HistoryEventDTO() {}
+
+    public HistoryEventDTO(String searchDate, String request, String response) {
+        this.searchDate = searchDate;
+        this.request = request;
+        this.response = response;
+    }
+
+    public String getSearchDate() {
+        return searchDate;
+    }
+
+    public void setSearchDate(String searchDate) {
+        this.searchDate = searchDate;
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public void setRequest(String request) {
+        this.request = request;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    public void setResponse(String response) {
+        this.response = response;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "HistoryEventDTO{" +
+            "searchDate='" + getSearchDate() + "'" +
+            ", request='" + getRequest() + "'" +
+            ", response='" + getResponse() + "'" +
+            "}";
+    }
+}
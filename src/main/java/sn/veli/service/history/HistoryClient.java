@@ -0,0 +1,18 @@
+package sn.veli.service.history;
+
+import java.util.List;
+import sn.veli.service.dto.HistoryEventDTO;
+
+/**
+ * Transport to the history microservice.
+ */
+public interface HistoryClient {
+    /**
+     * Send a batch of events.
+     *
+     * @param events the events to send, in order.
+     * @throws HistoryDeliveryException if only the first events were delivered.
+     * @throws RuntimeException if the batch could not be delivered.
+     */
+    void send(List<HistoryEventDTO> events);
+}
@@ -0,0 +1,25 @@
+package sn.veli.service.history;
+
+/**
+ * Thrown by a {@link HistoryClient} when only the first events of a batch were delivered.
+ * <p>
+ * The history service has accepted {@link #getDelivered()} events, in order; the cause is the failure of the next one.
+ */
+public class HistoryDeliveryException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int delivered;
+
+    public HistoryDeliveryException(int delivered, int total, RuntimeException cause) {
+        super("Delivered " + delivered + " of " + total + " history events: " + cause.getMessage(), cause);
+        this.delivered = delivered;
+    }
+
+    /**
+     * @return the number of events delivered before the failure.
+     */
+    public int getDelivered() {
+        return delivered;
+    }
+}
@@ -0,0 +1,314 @@
+package sn.veli.service.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.service.batch.BatchWorker;
+import sn.veli.service.dto.HistoryEventDTO;
+
+/**
+ * Publishes search events to the history microservice without blocking the request thread.
+ * <p>
+ * Events are enqueued in a {@link BatchWorker} and sent by its background thread, in batches
+ * closed either by {@code batch-size} or by {@code flush-interval}. When the queue is full the
+ * configured {@link ApplicationProperties.History.OverflowPolicy} applies.
+ * <p>
+ * When a batch cannot be delivered, it is written to the {@link HistorySpool} together with the rest of
+ * the queue, and new events go to the spool until it has been replayed, so events reach the history
+ * service in order once it is back. The spool is replayed whenever the queue is idle.
+ * <p>
+ * The publisher stops after the web server, so with {@code server.shutdown: graceful} the
+ * in-flight requests can still enqueue and everything left in the queue is drained before exit.
+ */
+@Service
+public class HistoryPublisher implements SmartLifecycle, BatchWorker.Handler<HistoryEventDTO> {
+
+    public static final String EVENTS_METER_NAME = "history.events";
+    public static final String QUEUE_DEPTH_METER_NAME = "history.queue.depth";
+    public static final String BATCH_SIZE_METER_NAME = "history.batch.size";
+    public static final String SPOOL_SIZE_METER_NAME = "history.spool.size";
+
+    private final Logger log = LoggerFactory.getLogger(HistoryPublisher.class);
+
+    private final HistoryClient historyClient;
+
+    private final ApplicationProperties.History properties;
+
+    private final BatchWorker<HistoryEventDTO> worker;
+
+    private final HistorySpool spool;
+
+    private final long syncIntervalNanos;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+
+    /**
+     * Set while the spool holds events, so that newer events are spooled behind them. Only cleared under the lock of
+     * the spool, where request threads check it again before appending.
+     */
+    private volatile boolean spooling;
+
+    private long lastSync = System.nanoTime();
+
+    public HistoryPublisher(
+        HistoryClient historyClient,
+        ApplicationProperties applicationProperties,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.historyClient = historyClient;
+        this.properties = applicationProperties.getHistory();
+        this.worker = new BatchWorker<>(
+            "history-publisher",
+            properties.getQueueCapacity(),
+            properties.getBatchSize(),
+            properties.getFlushInterval(),
+            properties.getShutdownTimeout(),
+            this
+        );
+        ApplicationProperties.History.Spool spoolProperties = properties.getSpool();
+        this.spool = spoolProperties.isEnabled()
+            ? new HistorySpool(
+                Path.of(spoolProperties.getDirectory()),
+                spoolProperties.getMaxSegmentSize().toBytes(),
+                spoolProperties.getMaxSize().toBytes(),
+                objectMapper
+            )
+            : null;
+        this.syncIntervalNanos = spoolProperties.getSyncInterval().toNanos();
+        // events recovered from a previous run are older than anything published now
+        this.spooling = spool != null && spool.hasPending();
+
+        Gauge
+            .builder(QUEUE_DEPTH_METER_NAME, worker, BatchWorker::size)
+            .description("History events waiting to be sent")
+            .register(meterRegistry);
+        if (spool != null) {
+            Gauge
+                .builder(SPOOL_SIZE_METER_NAME, spool, HistorySpool::size)
+                .description("Size of the history events waiting in the spool")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        }
+        this.enqueuedCounter = eventsCounter("enqueued", meterRegistry);
+        this.droppedCounter = eventsCounter("dropped", meterRegistry);
+        this.spilledCounter = eventsCounter("spilled", meterRegistry);
+        this.sentCounter = eventsCounter("sent", meterRegistry);
+        this.failedCounter = eventsCounter("failed", meterRegistry);
+        this.batchSizeSummary = DistributionSummary
+            .builder(BATCH_SIZE_METER_NAME)
+            .description("Number of history events sent per batch")
+            .baseUnit("events")
+            .register(meterRegistry);
+    }
+
+    private static Counter eventsCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter
+            .builder(EVENTS_METER_NAME)
+            .description("History events by outcome")
+            .baseUnit("events")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Enqueue an event for asynchronous delivery.
+     *
+     * @param event the event to publish.
+     * @return {@code true} if the event was queued or spooled, {@code false} if it was dropped.
+     */
+    public boolean publish(HistoryEventDTO event) {
+        if (spooling) {
+            synchronized (spool) {
+                if (spooling) {
+                    return spool(event);
+                }
+            }
+        }
+        if (worker.offer(event)) {
+            enqueuedCounter.increment();
+            return true;
+        }
+        return switch (properties.getOverflowPolicy()) {
+            case DROP -> drop(event);
+            case BLOCK -> offerBlocking(event);
+            case SPILL -> spillOverflow(event);
+        };
+    }
+
+    private boolean offerBlocking(HistoryEventDTO event) {
+        try {
+            if (worker.offer(event, properties.getBlockTimeout())) {
+                enqueuedCounter.increment();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return drop(event);
+    }
+
+    private boolean spillOverflow(HistoryEventDTO event) {
+        if (spool == null) {
+            return drop(event);
+        }
+        synchronized (spool) {
+            spooling = true;
+            return spool(event);
+        }
+    }
+
+    private boolean spool(HistoryEventDTO event) {
+        try {
+            if (spool.append(event)) {
+                spilledCounter.increment();
+                return true;
+            }
+            log.debug("History spool is full or closed");
+        } catch (IOException e) {
+            log.warn("Could not spool history event: {}", e.getMessage());
+        }
+        return drop(event);
+    }
+
+    /**
+     * Spool the events of a batch that could not be delivered, then everything still queued behind them.
+     */
+    private void spoolAll(List<HistoryEventDTO> events) {
+        spooling = true;
+        List<HistoryEventDTO> pending = new ArrayList<>(events);
+        worker.drainTo(pending);
+        int spooled = 0;
+        try {
+            spooled = spool.appendAll(pending);
+        } catch (IOException e) {
+            log.warn("Could not spool history events: {}", e.getMessage());
+        }
+        spilledCounter.increment(spooled);
+        if (spooled < pending.size()) {
+            droppedCounter.increment(pending.size() - spooled);
+            log.warn("{} history events were dropped, the spool is full or unavailable", pending.size() - spooled);
+        }
+    }
+
+    private boolean drop(HistoryEventDTO event) {
+        droppedCounter.increment();
+        log.debug("Dropping history event {}", event);
+        return false;
+    }
+
+    @Override
+    public void handle(List<HistoryEventDTO> batch) {
+        batchSizeSummary.record(batch.size());
+        try {
+            historyClient.send(batch);
+            sentCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            // the events already accepted are not sent again
+            int delivered = e instanceof HistoryDeliveryException partial ? partial.getDelivered() : 0;
+            List<HistoryEventDTO> undelivered = batch.subList(delivered, batch.size());
+            sentCounter.increment(delivered);
+            failedCounter.increment(undelivered.size());
+            log.warn("Could not send {} history events: {}", undelivered.size(), e.getMessage());
+            if (spool != null) {
+                spoolAll(undelivered);
+            }
+        }
+        syncSpool();
+    }
+
+    @Override
+    public void idle() {
+        replaySpool();
+        syncSpool();
+    }
+
+    private void replaySpool() {
+        if (spool == null || !worker.isRunning() || !spool.hasPending()) {
+            return;
+        }
+        try {
+            // failures propagate so that the spooled events are kept for the next attempt, the whole batch is
+            // replayed again even if its first events were delivered
+            spool.replay(
+                properties.getBatchSize(),
+                batch -> {
+                    batchSizeSummary.record(batch.size());
+                    historyClient.send(batch);
+                    sentCounter.increment(batch.size());
+                }
+            );
+            synchronized (spool) {
+                // an event spooled meanwhile keeps its place ahead of the queue
+                if (!spool.hasPending()) {
+                    spooling = false;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Could not replay spooled history events: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Force the spool to disk from the sender thread, at most once per {@code sync-interval}.
+     */
+    private void syncSpool() {
+        if (spool == null || System.nanoTime() - lastSync < syncIntervalNanos) {
+            return;
+        }
+        lastSync = System.nanoTime();
+        try {
+            spool.sync();
+        } catch (IOException e) {
+            log.warn("Could not sync the history spool: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void abandon(List<HistoryEventDTO> left) {
+        if (spool != null) {
+            spoolAll(left);
+        } else {
+            droppedCounter.increment(left.size());
+            log.warn("{} history events were not sent before shutdown", left.size());
+        }
+    }
+
+    @Override
+    public void start() {
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        if (worker.stop() && spool != null) {
+            spool.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker.isRunning();
+    }
+
+    @Override
+    public int getPhase() {
+        return BatchWorker.PHASE;
+    }
+}
@@ -0,0 +1,351 @@
+package sn.veli.service.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import sn.veli.service.dto.HistoryEventDTO;
+
+/**
+ * Durable, append-only spool of history events, stored as NDJSON segment files.
+ * <p>
+ * Events are appended to the active segment through a {@link FileChannel}; a write reaches the page cache
+ * and survives a crash of the JVM, but it is never forced to the device on the caller's thread. Forcing
+ * happens in {@link #sync()}, called periodically by the background sender. When the active segment reaches
+ * {@code max-segment-size} it is sealed and a new one is started; appends are refused once the whole spool
+ * reaches {@code max-size}.
+ * <p>
+ * {@link #replay(int, Consumer)} hands the events back oldest first. The position reached in the oldest
+ * segment is checkpointed after every accepted batch, and a segment is deleted once it has been fully replayed.
+ * Delivery is at least once: a crash between a send and its checkpoint replays that batch again.
+ * <p>
+ * On start, the segments left by a previous run are recovered in order. A truncated or unreadable line,
+ * such as the last line of a segment written during a crash, is skipped.
+ */
+class HistorySpool {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private static final String SEGMENT_SUFFIX = ".ndjson";
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private static final byte NEW_LINE = '\n';
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Logger log = LoggerFactory.getLogger(HistorySpool.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter eventWriter;
+
+    private final Path directory;
+
+    private final Path checkpointFile;
+
+    private final long maxSegmentSize;
+
+    private final long maxSize;
+
+    /**
+     * Sealed segments, oldest first; only the replaying thread removes them.
+     */
+    private final Deque<Segment> sealed = new ArrayDeque<>();
+
+    /**
+     * Channels of sealed segments that still have to be forced and closed by {@link #sync()}.
+     */
+    private final List<FileChannel> unsynced = new ArrayList<>();
+
+    private long sealedSize;
+
+    private FileChannel active;
+
+    private Path activePath;
+
+    private long activeSequence;
+
+    private long activeSize;
+
+    private boolean dirty;
+
+    private long nextSequence;
+
+    /**
+     * Set by {@link #close()}, after which appends are refused rather than written to a segment that is never synced.
+     */
+    private boolean closed;
+
+    HistorySpool(Path directory, long maxSegmentSize, long maxSize, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // one event per line, even when the application mapper indents its output
+        this.eventWriter = objectMapper.writerFor(HistoryEventDTO.class).without(SerializationFeature.INDENT_OUTPUT);
+        this.directory = directory;
+        this.checkpointFile = directory.resolve(CHECKPOINT_FILE);
+        this.maxSegmentSize = maxSegmentSize;
+        this.maxSize = maxSize;
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void recover() throws IOException {
+        List<Segment> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                String sequence = name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length());
+                try {
+                    segments.add(new Segment(Long.parseLong(sequence), file, Files.size(file)));
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring unexpected file in the history spool: {}", file);
+                }
+            }
+        }
+        segments.sort((a, b) -> Long.compare(a.sequence(), b.sequence()));
+        for (Segment segment : segments) {
+            sealed.addLast(segment);
+            sealedSize += segment.size();
+            nextSequence = segment.sequence() + 1;
+        }
+        if (!segments.isEmpty()) {
+            log.info("Recovered {} history spool segments ({} bytes) from {}", segments.size(), sealedSize, directory);
+        }
+    }
+
+    /**
+     * Append an event to the active segment, without forcing it to disk.
+     *
+     * @return {@code false} if the spool is full or closed.
+     */
+    synchronized boolean append(HistoryEventDTO event) throws IOException {
+        if (closed) {
+            return false;
+        }
+        byte[] json = eventWriter.writeValueAsBytes(event);
+        int length = json.length + 1;
+        if (sealedSize + activeSize + length > maxSize) {
+            return false;
+        }
+        if (active != null && activeSize + length > maxSegmentSize) {
+            seal();
+        }
+        if (active == null) {
+            activeSequence = nextSequence++;
+            activePath = directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, activeSequence, SEGMENT_SUFFIX));
+            active = FileChannel.open(activePath, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length).put(json).put(NEW_LINE).flip();
+        while (buffer.hasRemaining()) {
+            active.write(buffer);
+        }
+        activeSize += length;
+        dirty = true;
+        return true;
+    }
+
+    /**
+     * Append the events in order, stopping at the first one that does not fit.
+     *
+     * @return the number of events appended.
+     */
+    synchronized int appendAll(List<HistoryEventDTO> events) throws IOException {
+        int appended = 0;
+        for (HistoryEventDTO event : events) {
+            if (!append(event)) {
+                break;
+            }
+            appended++;
+        }
+        return appended;
+    }
+
+    synchronized boolean hasPending() {
+        return !sealed.isEmpty() || activeSize > 0;
+    }
+
+    /**
+     * @return the size of the spooled events, in bytes, replayed events included until their segment is deleted.
+     */
+    synchronized long size() {
+        return sealedSize + activeSize;
+    }
+
+    /**
+     * Force the written events to the device. Meant for the background sender, never for a request thread.
+     */
+    synchronized void sync() throws IOException {
+        for (FileChannel channel : unsynced) {
+            channel.force(false);
+            channel.close();
+        }
+        unsynced.clear();
+        if (active != null && dirty) {
+            active.force(false);
+            dirty = false;
+        }
+    }
+
+    private void seal() {
+        sealed.addLast(new Segment(activeSequence, activePath, activeSize));
+        sealedSize += activeSize;
+        if (dirty) {
+            unsynced.add(active);
+        } else {
+            closeQuietly(active);
+        }
+        active = null;
+        activePath = null;
+        activeSize = 0;
+        dirty = false;
+    }
+
+    /**
+     * Hand every spooled event to {@code sender}, oldest first, by batches of at most {@code batchSize}.
+     * <p>
+     * If {@code sender} throws, the events of that batch and the following ones stay in the spool
+     * for the next replay. Only one thread may replay at a time.
+     */
+    void replay(int batchSize, Consumer<List<HistoryEventDTO>> sender) throws IOException {
+        while (true) {
+            Segment segment;
+            synchronized (this) {
+                if (sealed.isEmpty()) {
+                    if (activeSize == 0) {
+                        return;
+                    }
+                    seal();
+                }
+                segment = sealed.peekFirst();
+            }
+            replaySegment(segment, batchSize, sender);
+            synchronized (this) {
+                sealed.removeFirst();
+                sealedSize -= segment.size();
+            }
+            Files.deleteIfExists(segment.path());
+            Files.deleteIfExists(checkpointFile);
+            log.debug("Replayed history spool segment {}", segment.path());
+        }
+    }
+
+    private void replaySegment(Segment segment, int batchSize, Consumer<List<HistoryEventDTO>> sender) throws IOException {
+        long offset = readCheckpoint(segment.sequence());
+        List<HistoryEventDTO> batch = new ArrayList<>(batchSize);
+        try (FileChannel channel = FileChannel.open(segment.path(), StandardOpenOption.READ)) {
+            channel.position(offset);
+            ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            boolean end = false;
+            while (!end) {
+                if (!buffer.hasRemaining()) {
+                    // a line longer than the buffer
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                }
+                end = channel.read(buffer) == -1;
+                buffer.flip();
+                int lineStart = 0;
+                for (int i = 0; i < buffer.limit(); i++) {
+                    if (buffer.get(i) != NEW_LINE) {
+                        continue;
+                    }
+                    HistoryEventDTO event = readEvent(buffer.array(), lineStart, i - lineStart, segment);
+                    if (event != null) {
+                        batch.add(event);
+                    }
+                    offset += i + 1 - lineStart;
+                    lineStart = i + 1;
+                    if (batch.size() == batchSize) {
+                        sender.accept(batch);
+                        writeCheckpoint(segment.sequence(), offset);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                buffer.position(lineStart);
+                buffer.compact();
+            }
+            if (buffer.position() > 0) {
+                log.warn("Skipping a truncated history event at the end of {}", segment.path());
+            }
+        }
+        if (!batch.isEmpty()) {
+            sender.accept(batch);
+        }
+    }
+
+    private HistoryEventDTO readEvent(byte[] bytes, int offset, int length, Segment segment) {
+        if (length == 0) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(bytes, offset, length, HistoryEventDTO.class);
+        } catch (IOException e) {
+            log.warn("Skipping an unreadable history event in {}: {}", segment.path(), e.getMessage());
+            return null;
+        }
+    }
+
+    private long readCheckpoint(long sequence) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        String[] checkpoint = Files.readString(checkpointFile, StandardCharsets.UTF_8).strip().split(" ");
+        try {
+            if (checkpoint.length == 2 && Long.parseLong(checkpoint[0]) == sequence) {
+                return Long.parseLong(checkpoint[1]);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring an unreadable history spool checkpoint");
+        }
+        return 0;
+    }
+
+    private void writeCheckpoint(long sequence, long offset) throws IOException {
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.writeString(temporary, sequence + " " + offset, StandardCharsets.UTF_8);
+        Files.move(temporary, checkpointFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    synchronized void close() {
+        closed = true;
+        if (active != null) {
+            seal();
+        }
+        try {
+            sync();
+        } catch (IOException e) {
+            log.warn("Could not sync the history spool: {}", e.getMessage());
+            unsynced.forEach(this::closeQuietly);
+            unsynced.clear();
+        }
+    }
+
+    private void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close a history spool segment: {}", e.getMessage());
+        }
+    }
+
+    private record Segment(long sequence, Path path, long size) {}
+}
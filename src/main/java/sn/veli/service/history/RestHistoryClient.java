@@ -0,0 +1,124 @@
+package sn.veli.service.history;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.service.dto.HistoryEventDTO;
+
+/**
+ * {@link HistoryClient} posting events to the history microservice over HTTP.
+ * <p>
+ * Every call goes through the {@code history} circuit breaker and bulkhead, so a slow or failing
+ * history service is cut off quickly and can never hold more than {@code max-concurrent-calls}
+ * threads. Calls are timed in {@value #REQUESTS_METER_NAME}, tagged by outcome.
+ * <p>
+ * Without {@code batch-path}, a batch is posted one event per call and stops at the first failure, reported as a
+ * {@link HistoryDeliveryException} once some events have been accepted, so that only the rest is spooled. A replay of
+ * the spool that fails part way is still retried as a whole: delivery in this mode is at least once.
+ */
+@Component
+public class RestHistoryClient implements HistoryClient {
+
+    public static final String RESILIENCE_INSTANCE_NAME = "history";
+
+    public static final String REQUESTS_METER_NAME = "history.client.requests";
+
+    private final RestClient restClient;
+
+    private final CircuitBreaker circuitBreaker;
+
+    private final Bulkhead bulkhead;
+
+    private final String savePath;
+
+    private final String batchPath;
+
+    private final Timer successTimer;
+    private final Timer httpErrorTimer;
+    private final Timer ioErrorTimer;
+    private final Timer shortCircuitedTimer;
+    private final Timer rejectedTimer;
+
+    private final MeterRegistry meterRegistry;
+
+    public RestHistoryClient(
+        @Qualifier("historyRestClient") RestClient restClient,
+        CircuitBreakerRegistry circuitBreakerRegistry,
+        BulkheadRegistry bulkheadRegistry,
+        MeterRegistry meterRegistry,
+        ApplicationProperties applicationProperties
+    ) {
+        this.restClient = restClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE_INSTANCE_NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(RESILIENCE_INSTANCE_NAME);
+        this.savePath = applicationProperties.getHistory().getSavePath();
+        this.batchPath = applicationProperties.getHistory().getBatchPath();
+        this.meterRegistry = meterRegistry;
+        this.successTimer = requestsTimer("success", meterRegistry);
+        this.httpErrorTimer = requestsTimer("http-error", meterRegistry);
+        this.ioErrorTimer = requestsTimer("io-error", meterRegistry);
+        this.shortCircuitedTimer = requestsTimer("short-circuited", meterRegistry);
+        this.rejectedTimer = requestsTimer("rejected", meterRegistry);
+    }
+
+    private static Timer requestsTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer
+            .builder(REQUESTS_METER_NAME)
+            .description("Calls to the history service by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void send(List<HistoryEventDTO> events) {
+        if (batchPath != null && !batchPath.isEmpty()) {
+            post(batchPath, events);
+            return;
+        }
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                post(savePath, events.get(i));
+            } catch (RuntimeException e) {
+                throw i == 0 ? e : new HistoryDeliveryException(i, events.size(), e);
+            }
+        }
+    }
+
+    private void post(String path, Object body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // anything else, including non-2xx responses, is an http error
+        Timer outcome = httpErrorTimer;
+        try {
+            circuitBreaker.executeRunnable(
+                Bulkhead.decorateRunnable(
+                    bulkhead,
+                    () -> restClient.post().uri(path).contentType(MediaType.APPLICATION_JSON).body(body).retrieve().toBodilessEntity()
+                )
+            );
+            outcome = successTimer;
+        } catch (CallNotPermittedException e) {
+            outcome = shortCircuitedTimer;
+            throw e;
+        } catch (BulkheadFullException e) {
+            outcome = rejectedTimer;
+            throw e;
+        } catch (ResourceAccessException e) {
+            outcome = ioErrorTimer;
+            throw e;
+        } finally {
+            sample.stop(outcome);
+        }
+    }
+}
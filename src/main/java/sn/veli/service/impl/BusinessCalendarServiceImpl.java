@@ -0,0 +1,168 @@
+package sn.veli.service.impl;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.service.BusinessCalendarService;
+import sn.veli.service.calendar.BusinessCalendar;
+import sn.veli.service.calendar.CalendarEngine;
+import sn.veli.service.calendar.CalendarIndex;
+import sn.veli.service.dto.AddBusinessDaysDTO;
+
+/**
+ * Service Implementation for the working days of the configured weekend and holiday sets.
+ * <p>
+ * Each holiday set has its own {@link BusinessCalendar}, built when the set is saved. Lookups read an immutable map of
+ * the calendars, replaced as a whole on each change, and never wait on a change in progress. The holidays of the
+ * default set are also flagged {@link CalendarIndex#HOLIDAY} in the calendar index.
+ */
+@Service
+public class BusinessCalendarServiceImpl implements BusinessCalendarService {
+
+    private final Logger log = LoggerFactory.getLogger(BusinessCalendarServiceImpl.class);
+
+    private final CalendarIndex calendarIndex;
+
+    private final int fromYear;
+
+    private final int toYear;
+
+    private final Set<DayOfWeek> weekend;
+
+    private final String defaultHolidaySet;
+
+    private final BusinessCalendar weekendCalendar;
+
+    private volatile Map<String, Set<LocalDate>> holidaySets = Map.of();
+
+    private volatile Map<String, BusinessCalendar> calendars = Map.of();
+
+    public BusinessCalendarServiceImpl(CalendarIndex calendarIndex, ApplicationProperties applicationProperties) {
+        this.calendarIndex = calendarIndex;
+        ApplicationProperties.Calendar.Business business = applicationProperties.getCalendar().getBusiness();
+        this.fromYear = business.getFromYear();
+        this.toYear = business.getToYear();
+        this.weekend = business.getWeekend().isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(business.getWeekend());
+        this.defaultHolidaySet = business.getDefaultHolidaySet() == null || business.getDefaultHolidaySet().isBlank()
+            ? null
+            : business.getDefaultHolidaySet();
+        this.weekendCalendar = BusinessCalendar.of(fromYear, toYear, weekend, Set.of());
+        business.getHolidaySets().forEach(this::saveHolidaySet);
+        if (defaultHolidaySet != null && !holidaySets.containsKey(defaultHolidaySet)) {
+            saveHolidaySet(defaultHolidaySet, Set.of());
+        }
+    }
+
+    @Override
+    public Optional<BusinessCalendar> findCalendar(String holidaySet) {
+        String name = holidaySet == null || holidaySet.isEmpty() ? defaultHolidaySet : holidaySet;
+        return name == null ? Optional.of(weekendCalendar) : Optional.ofNullable(calendars.get(name));
+    }
+
+    @Override
+    public List<AddBusinessDaysDTO> addBusinessDays(List<AddBusinessDaysDTO> additions) {
+        List<AddBusinessDaysDTO> outcomes = new ArrayList<>(additions.size());
+        for (AddBusinessDaysDTO addition : additions) {
+            AddBusinessDaysDTO outcome = new AddBusinessDaysDTO(addition.getDate(), addition.getDays(), addition.getHolidays());
+            String error = addBusinessDays(outcome);
+            if (error != null) {
+                outcome.setError(error);
+            }
+            outcomes.add(outcome);
+        }
+        return outcomes;
+    }
+
+    /**
+     * @return the error, or {@code null} once the working day is set.
+     */
+    private String addBusinessDays(AddBusinessDaysDTO addition) {
+        long epochDay = CalendarEngine.parseEpochDay(addition.getDate(), null);
+        if (epochDay == CalendarEngine.INVALID) {
+            return AddBusinessDaysDTO.INVALID_DATE;
+        }
+        if (addition.getDays() == null) {
+            return AddBusinessDaysDTO.MISSING_DAYS;
+        }
+        BusinessCalendar calendar = findCalendar(addition.getHolidays()).orElse(null);
+        if (calendar == null) {
+            return AddBusinessDaysDTO.UNKNOWN_HOLIDAY_SET;
+        }
+        long businessDay = calendar.covers(epochDay) ? calendar.addBusinessDays(epochDay, addition.getDays()) : CalendarEngine.INVALID;
+        if (businessDay == CalendarEngine.INVALID) {
+            return AddBusinessDaysDTO.NOT_COVERED;
+        }
+        addition.setBusinessDay(LocalDate.ofEpochDay(businessDay).toString());
+        return null;
+    }
+
+    @Override
+    public String getDefaultHolidaySet() {
+        return defaultHolidaySet;
+    }
+
+    @Override
+    public Map<String, Set<LocalDate>> getHolidaySets() {
+        return holidaySets;
+    }
+
+    @Override
+    public synchronized void saveHolidaySet(String name, Set<LocalDate> holidays) {
+        log.debug("Request to save the holiday set {} : {}", name, holidays);
+        Set<LocalDate> sorted = Collections.unmodifiableSet(new TreeSet<>(holidays));
+        BusinessCalendar calendar = BusinessCalendar.of(fromYear, toYear, weekend, sorted);
+        if (name.equals(defaultHolidaySet)) {
+            flagHolidays(holidaySets.getOrDefault(name, Set.of()), sorted);
+        }
+        Map<String, Set<LocalDate>> newHolidaySets = new LinkedHashMap<>(holidaySets);
+        newHolidaySets.put(name, sorted);
+        Map<String, BusinessCalendar> newCalendars = new LinkedHashMap<>(calendars);
+        newCalendars.put(name, calendar);
+        holidaySets = Collections.unmodifiableMap(newHolidaySets);
+        calendars = Collections.unmodifiableMap(newCalendars);
+        log.info("Holiday set {} has {} holidays from {} to {}", name, calendar.getHolidayCount(), fromYear, toYear);
+    }
+
+    @Override
+    public synchronized boolean deleteHolidaySet(String name) {
+        log.debug("Request to delete the holiday set {}", name);
+        if (name.equals(defaultHolidaySet)) {
+            throw new IllegalArgumentException("The default holiday set cannot be deleted: " + name);
+        }
+        if (!holidaySets.containsKey(name)) {
+            return false;
+        }
+        Map<String, Set<LocalDate>> newHolidaySets = new LinkedHashMap<>(holidaySets);
+        newHolidaySets.remove(name);
+        Map<String, BusinessCalendar> newCalendars = new LinkedHashMap<>(calendars);
+        newCalendars.remove(name);
+        holidaySets = Collections.unmodifiableMap(newHolidaySets);
+        calendars = Collections.unmodifiableMap(newCalendars);
+        return true;
+    }
+
+    private void flagHolidays(Set<LocalDate> previous, Set<LocalDate> holidays) {
+        for (LocalDate date : previous) {
+            if (!holidays.contains(date) && CalendarIndex.contains(date.toEpochDay())) {
+                calendarIndex.removeFlags(date.toEpochDay(), CalendarIndex.HOLIDAY);
+            }
+        }
+        for (LocalDate date : holidays) {
+            if (CalendarIndex.contains(date.toEpochDay())) {
+                calendarIndex.addFlags(date.toEpochDay(), CalendarIndex.HOLIDAY);
+            }
+        }
+    }
+}
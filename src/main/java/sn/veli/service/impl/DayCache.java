@@ -0,0 +1,120 @@
+package sn.veli.service.impl;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.config.Constants;
+import sn.veli.repository.DayRepository;
+import sn.veli.service.dto.DayDTO;
+import sn.veli.service.mapper.DayMapper;
+
+/**
+ * Read-through cache of the days by id, behind {@link DayServiceImpl#findOne(Long)}.
+ * <p>
+ * A Caffeine cache, bounded by {@code application.days.cache-max-entries} with W-TinyLFU eviction, and by
+ * {@code application.days.cache-ttl}. Concurrent misses on the same id wait for a single load. Missing days are not
+ * cached. Loads run in a read-write transaction, on the primary database: a lagging replica would leave a stale day in
+ * the cache until it expires.
+ * <p>
+ * Reads inside a transaction bypass the cache, as they may see changes not committed yet. Writes evict their day once
+ * committed: an eviction waits for a load of the same id in progress, so a day read before the commit is not kept.
+ * <p>
+ * Its {@code cache.*} metrics, with the load times, are tagged {@code cache=dayById}, next to a {@code cache.hit.ratio}
+ * gauge.
+ */
+@Component
+public class DayCache {
+
+    public static final String DAY_BY_ID_CACHE = "dayById";
+
+    static final String HIT_RATIO_METER_NAME = "cache.hit.ratio";
+
+    private final DayRepository dayRepository;
+
+    private final DayMapper dayMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final LoadingCache<Long, DayDTO> cache;
+
+    public DayCache(
+        DayRepository dayRepository,
+        DayMapper dayMapper,
+        ApplicationProperties applicationProperties,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.dayRepository = dayRepository;
+        this.dayMapper = dayMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        ApplicationProperties.Days days = applicationProperties.getDays();
+        if (days.getCacheMaxEntries() <= 0) {
+            this.cache = null;
+            return;
+        }
+        this.cache =
+            Caffeine
+                .newBuilder()
+                .maximumSize(days.getCacheMaxEntries())
+                .expireAfterWrite(days.getCacheTtl())
+                .recordStats()
+                .build(id -> transactionTemplate.execute(status -> load(id).orElse(null)));
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, DAY_BY_ID_CACHE, Constants.APPLICATION_CACHE_TAGS);
+        Gauge
+            .builder(HIT_RATIO_METER_NAME, cache, c -> c.stats().hitRate())
+            .description("The ratio of cache requests which were hits")
+            .tags(Constants.APPLICATION_CACHE_TAGS)
+            .tag("cache", DAY_BY_ID_CACHE)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Get a day from the cache, or from the database on a miss.
+     *
+     * @param id the id of the day.
+     * @return the day, or empty if it does not exist.
+     */
+    public Optional<DayDTO> get(Long id) {
+        if (cache == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return load(id);
+        }
+        return Optional.ofNullable(cache.get(id));
+    }
+
+    private Optional<DayDTO> load(Long id) {
+        // a single row: the entity comes from the second-level cache when enabled, and costs less than a projection query
+        return dayRepository.findById(id).map(dayMapper::toDto);
+    }
+
+    /**
+     * Evict a day once the current transaction commits, or right away without a transaction.
+     *
+     * @param id the id of the day, ignored if {@code null}.
+     */
+    public void evictAfterCommit(Long id) {
+        if (cache == null || id == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                }
+            }
+        );
+    }
+}
@@ -1,20 +1,35 @@
 package sn.veli.service.impl;
 
-import java.time.DayOfWeek;
+import jakarta.persistence.EntityManager;
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.LinkedList;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import sn.veli.config.ApplicationProperties;
 import sn.veli.domain.Day;
 import sn.veli.repository.DayRepository;
 import sn.veli.service.DayService;
+import sn.veli.service.calendar.CalendarEngine;
+import sn.veli.service.calendar.CalendarIndex;
+import sn.veli.service.calendar.DatePattern;
+import sn.veli.service.calendar.DayRecorder;
+import sn.veli.service.calendar.DayCursor;
 import sn.veli.service.dto.DayDTO;
+import sn.veli.service.dto.DayLookupDTO;
 import sn.veli.service.mapper.DayMapper;
 
 /**
@@ -24,15 +39,47 @@ import sn.veli.service.mapper.DayMapper;
 @Transactional
 public class DayServiceImpl implements DayService {
 
+    private static final Sort BY_DATE = Sort.by("date");
+
     private final Logger log = LoggerFactory.getLogger(DayServiceImpl.class);
 
     private final DayRepository dayRepository;
 
     private final DayMapper dayMapper;
 
-    public DayServiceImpl(DayRepository dayRepository, DayMapper dayMapper) {
+    private final EntityManager entityManager;
+
+    private final DayRecorder dayRecorder;
+
+    private final DayCache dayCache;
+
+    private final ApplicationProperties.Calendar.Engine engine;
+
+    private final long countTtlNanos;
+
+    private final int bulkChunkSize;
+
+    // racing refreshes only count twice, the estimate does not need a lock
+    private volatile long countEstimate = -1;
+
+    private volatile long countEstimatedAt;
+
+    public DayServiceImpl(
+        DayRepository dayRepository,
+        DayMapper dayMapper,
+        EntityManager entityManager,
+        DayRecorder dayRecorder,
+        DayCache dayCache,
+        ApplicationProperties applicationProperties
+    ) {
         this.dayRepository = dayRepository;
         this.dayMapper = dayMapper;
+        this.entityManager = entityManager;
+        this.dayRecorder = dayRecorder;
+        this.dayCache = dayCache;
+        this.engine = applicationProperties.getCalendar().getEngine();
+        this.countTtlNanos = applicationProperties.getDays().getCountTtl().toNanos();
+        this.bulkChunkSize = applicationProperties.getDays().getBulkChunkSize();
     }
 
     @Override
@@ -40,67 +87,180 @@ public class DayServiceImpl implements DayService {
         log.debug("Request to save Day : {}", dayDTO);
         Day day = dayMapper.toEntity(dayDTO);
         day = dayRepository.save(day);
+        dayCache.evictAfterCommit(day.getId());
         return dayMapper.toDto(day);
     }
 
     @Override
-    public DayDTO update(DayDTO dayDTO) {
+    public List<DayDTO> saveAll(List<DayDTO> dayDTOs) {
+        log.debug("Request to save {} Days", dayDTOs.size());
+        List<DayDTO> result = new ArrayList<>(dayDTOs.size());
+        int pending = 0;
+        for (DayDTO dayDTO : dayDTOs) {
+            // new days, never in the day cache: the id comes from the pooled sequence, the insert itself waits for the next flush
+            Day day = dayRepository.save(dayMapper.toEntity(dayDTO));
+            result.add(dayMapper.toDto(day));
+            if (++pending == bulkChunkSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return result;
+    }
+
+    @Override
+    public Optional<DayDTO> update(DayDTO dayDTO) {
         log.debug("Request to update Day : {}", dayDTO);
-        Day day = dayMapper.toEntity(dayDTO);
-        day = dayRepository.save(day);
-        return dayMapper.toDto(day);
+        int updated = dayRepository.updateIfVersion(dayDTO.getId(), dayDTO.getVersion(), dayDTO.getDate(), dayDTO.getDayOfWeek());
+        if (updated == 0) {
+            return notFoundOrConflict(dayDTO.getId());
+        }
+        dayCache.evictAfterCommit(dayDTO.getId());
+        // every column was given: the updated day is known without reading it back
+        return Optional.of(new DayDTO(dayDTO.getId(), dayDTO.getDate(), dayDTO.getDayOfWeek(), dayDTO.getVersion() + 1));
     }
 
     @Override
     public Optional<DayDTO> partialUpdate(DayDTO dayDTO) {
         log.debug("Request to partially update Day : {}", dayDTO);
+        int updated = dayRepository.partialUpdateIfVersion(dayDTO.getId(), dayDTO.getVersion(), dayDTO.getDate(), dayDTO.getDayOfWeek());
+        if (updated == 0) {
+            return notFoundOrConflict(dayDTO.getId());
+        }
+        dayCache.evictAfterCommit(dayDTO.getId());
+        return dayRepository.findById(dayDTO.getId()).map(dayMapper::toDto);
+    }
 
-        return dayRepository
-            .findById(dayDTO.getId())
-            .map(existingDay -> {
-                dayMapper.partialUpdate(existingDay, dayDTO);
+    /**
+     * Tell apart, once a conditional update changed no row, a missing day from a day updated in the meantime.
+     */
+    private Optional<DayDTO> notFoundOrConflict(Long id) {
+        if (dayRepository.existsById(id)) {
+            throw new ObjectOptimisticLockingFailureException(Day.class, id);
+        }
+        return Optional.empty();
+    }
 
-                return existingDay;
-            })
-            .map(dayRepository::save)
-            .map(dayMapper::toDto);
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<DayDTO> findAll(LocalDate from, LocalDate to, int size) {
+        log.debug("Request to get {} Days from {} to {}", size, from, to);
+        // keyset pages always start at offset 0, the database seeks to the lower bound on the date index
+        Pageable pageable = PageRequest.of(0, size, BY_DATE);
+        if (from != null && to != null) {
+            return dayRepository.findByDateBetween(from, to, pageable, DayDTO.class);
+        } else if (from != null) {
+            return dayRepository.findByDateGreaterThanEqual(from, pageable, DayDTO.class);
+        } else if (to != null) {
+            return dayRepository.findByDateLessThanEqual(to, pageable, DayDTO.class);
+        }
+        return dayRepository.findSliceBy(pageable, DayDTO.class);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<DayDTO> findAll() {
-        log.debug("Request to get all Days");
-        return dayRepository.findAll().stream().map(dayMapper::toDto).collect(Collectors.toCollection(LinkedList::new));
+    public long countEstimate() {
+        long now = System.nanoTime();
+        if (countEstimate < 0 || now - countEstimatedAt > countTtlNanos) {
+            countEstimate = dayRepository.count();
+            countEstimatedAt = now;
+        }
+        return countEstimate;
     }
 
     @Override
     @Transactional(readOnly = true)
+    public void exportAll(Consumer<DayDTO> action) {
+        log.debug("Request to export all Days");
+        try (Stream<DayDTO> days = dayRepository.streamAllByOrderByDate(DayDTO.class)) {
+            days.forEach(action);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<DayDTO> findOne(Long id) {
         log.debug("Request to get Day : {}", id);
-        return dayRepository.findById(id).map(dayMapper::toDto);
+        return dayCache.get(id);
     }
 
     @Override
     public void delete(Long id) {
         log.debug("Request to delete Day : {}", id);
-        dayRepository.deleteById(id);
+        dayRepository
+            .findById(id)
+            .ifPresent(day -> {
+                dayRepository.delete(day);
+                // the dayfinder stores the date again the next time it is resolved
+                dayRecorder.forgetAfterCommit(day.getDate().toEpochDay());
+            });
+        dayCache.evictAfterCommit(id);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Day findDayByDateString(String dateString) {
-        // Convertir la date en format LocalDate
-        LocalDate date = LocalDate.parse(dateString, DateTimeFormatter.ofPattern("dd-MM-yyyy"));
+        long epochDay = resolveEpochDay(dateString, null);
+        if (epochDay == CalendarEngine.INVALID) {
+            throw new DateTimeParseException("Text '" + dateString + "' could not be parsed", String.valueOf(dateString), 0);
+        }
+        int packed = dayRecorder.record(epochDay);
+        Day day = new Day();
+        day.setDate(LocalDate.ofEpochDay(epochDay));
+        day.setDayOfWeek(CalendarIndex.dayOfWeek(packed).name());
+        return day;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public DayLookupDTO lookupDay(String dateString, DatePattern pattern) {
+        long epochDay = resolveEpochDay(dateString, pattern);
+        if (epochDay == CalendarEngine.INVALID) {
+            return new DayLookupDTO(dateString, null, DayLookupDTO.INVALID_DATE);
+        }
+        int packed = dayRecorder.record(epochDay);
+        return new DayLookupDTO(dateString, CalendarIndex.dayOfWeek(packed).name(), null);
+    }
 
-        // Calculer le jour de la semaine
-        String dayOfWeek = DayOfWeek.from(date).name();
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<DayLookupDTO> lookupDays(List<String> dateStrings, DatePattern pattern) {
+        List<DayLookupDTO> lookups = new ArrayList<>(dateStrings.size());
+        for (String dateString : dateStrings) {
+            lookups.add(lookupDay(dateString, pattern));
+        }
+        return lookups;
+    }
 
-        // Créer un objet Day
-        Day day = new Day();
-        day.setDate(dateString);
-        day.setDayOfWeek(dayOfWeek);
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<DayCursor> findDaysInRange(String from, String to) {
+        return Optional.ofNullable(CalendarEngine.range(from, to));
+    }
 
-        // Enregistrer l'objet Day (optionnel)
-        // dayRepository.save(day);
+    /**
+     * @return the epoch day of the date, or {@link CalendarEngine#INVALID} if the date is not valid.
+     */
+    private long resolveEpochDay(String dateString, DatePattern pattern) {
+        if (engine == ApplicationProperties.Calendar.Engine.JAVA_TIME) {
+            return resolveEpochDayWithJavaTime(dateString, pattern);
+        }
+        return CalendarEngine.parseEpochDay(dateString, pattern);
+    }
 
-        return day;
+    private long resolveEpochDayWithJavaTime(String dateString, DatePattern pattern) {
+        DatePattern datePattern = pattern != null ? pattern : DatePattern.detect(dateString);
+        if (datePattern == null) {
+            return CalendarEngine.INVALID;
+        }
+        try {
+            // Convertir la date en format LocalDate, avec le formateur précompilé du format
+            return LocalDate.parse(dateString, datePattern.getFormatter()).toEpochDay();
+        } catch (DateTimeException e) {
+            return CalendarEngine.INVALID;
+        }
     }
 }
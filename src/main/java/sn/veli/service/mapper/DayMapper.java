@@ -8,4 +8,11 @@ import sn.veli.service.dto.DayDTO;
  * Mapper for the entity {@link Day} and its DTO {@link DayDTO}.
  */
 @Mapper(componentModel = "spring")
-public interface DayMapper extends EntityMapper<DayDTO, Day> {}
+public interface DayMapper extends EntityMapper<DayDTO, Day> {
+    /**
+     * The version is only set by Hibernate: a new day with a version would be merged instead of persisted.
+     */
+    @Override
+    @Mapping(target = "version", ignore = true)
+    Day toEntity(DayDTO dto);
+}
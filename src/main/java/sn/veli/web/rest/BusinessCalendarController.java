@@ -0,0 +1,210 @@
+package sn.veli.web.rest;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.service.BusinessCalendarService;
+import sn.veli.service.calendar.BusinessCalendar;
+import sn.veli.service.calendar.CalendarEngine;
+import sn.veli.service.calendar.DatePattern;
+import sn.veli.service.dto.AddBusinessDaysDTO;
+import sn.veli.service.dto.BusinessDayCountDTO;
+import sn.veli.service.dto.BusinessDayDTO;
+import sn.veli.web.rest.errors.BadRequestAlertException;
+
+/**
+ * Working days of the configured weekend and holiday sets.
+ * <p>
+ * Dates are accepted in any {@link DatePattern} layout and returned in ISO format. The {@code holidays} parameter names
+ * the holiday set, {@code application.calendar.business.default-holiday-set} when absent.
+ */
+@RestController
+@RequestMapping("/services/calendar/business")
+public class BusinessCalendarController {
+
+    private static final String ENTITY_NAME = "calendarprincipalBusinessDay";
+
+    private final Logger log = LoggerFactory.getLogger(BusinessCalendarController.class);
+
+    private final BusinessCalendarService businessCalendarService;
+
+    private final int maxBatchSize;
+
+    public BusinessCalendarController(BusinessCalendarService businessCalendarService, ApplicationProperties applicationProperties) {
+        this.businessCalendarService = businessCalendarService;
+        this.maxBatchSize = applicationProperties.getCalendar().getMaxBatchSize();
+    }
+
+    /**
+     * {@code GET  /day} : find whether a date is a working day.
+     *
+     * @param date the date.
+     * @param holidays the name of the holiday set.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the date, or with status {@code 400 (Bad Request)}
+     * if the date is not valid or not covered, or the holiday set is unknown.
+     */
+    @GetMapping("/day")
+    public ResponseEntity<BusinessDayDTO> getBusinessDay(@RequestParam String date, @RequestParam(required = false) String holidays) {
+        log.debug("REST request to find whether {} is a business day", date);
+        BusinessCalendar calendar = findCalendar(holidays);
+        return ResponseEntity.ok(toBusinessDay(calendar, toEpochDay(calendar, date)));
+    }
+
+    /**
+     * {@code GET  /next} : find the first working day after a date.
+     *
+     * @param date the date.
+     * @param holidays the name of the holiday set.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the working day, or with status
+     * {@code 400 (Bad Request)} if the date is not valid, it or the working day is not covered, or the holiday set is unknown.
+     */
+    @GetMapping("/next")
+    public ResponseEntity<BusinessDayDTO> getNextBusinessDay(
+        @RequestParam String date,
+        @RequestParam(required = false) String holidays
+    ) {
+        log.debug("REST request to find the business day after {}", date);
+        BusinessCalendar calendar = findCalendar(holidays);
+        long next = calendar.nextBusinessDay(toEpochDay(calendar, date));
+        if (next == CalendarEngine.INVALID) {
+            throw notCovered(calendar);
+        }
+        return ResponseEntity.ok(toBusinessDay(calendar, next));
+    }
+
+    /**
+     * {@code GET  /previous} : find the last working day before a date.
+     *
+     * @param date the date.
+     * @param holidays the name of the holiday set.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the working day, or with status
+     * {@code 400 (Bad Request)} if the date is not valid, it or the working day is not covered, or the holiday set is unknown.
+     */
+    @GetMapping("/previous")
+    public ResponseEntity<BusinessDayDTO> getPreviousBusinessDay(
+        @RequestParam String date,
+        @RequestParam(required = false) String holidays
+    ) {
+        log.debug("REST request to find the business day before {}", date);
+        BusinessCalendar calendar = findCalendar(holidays);
+        long previous = calendar.previousBusinessDay(toEpochDay(calendar, date));
+        if (previous == CalendarEngine.INVALID) {
+            throw notCovered(calendar);
+        }
+        return ResponseEntity.ok(toBusinessDay(calendar, previous));
+    }
+
+    /**
+     * {@code GET  /count} : count the working days between two dates, both included.
+     *
+     * @param from the first date.
+     * @param to the last date.
+     * @param holidays the name of the holiday set.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the number of working days, or with status
+     * {@code 400 (Bad Request)} if a date is not valid or not covered, the range ends before it starts, or the holiday set is unknown.
+     */
+    @GetMapping("/count")
+    public ResponseEntity<BusinessDayCountDTO> countBusinessDays(
+        @RequestParam String from,
+        @RequestParam String to,
+        @RequestParam(required = false) String holidays
+    ) {
+        log.debug("REST request to count the business days from {} to {}", from, to);
+        BusinessCalendar calendar = findCalendar(holidays);
+        long fromEpochDay = toEpochDay(calendar, from);
+        long toEpochDay = toEpochDay(calendar, to);
+        if (toEpochDay < fromEpochDay) {
+            throw new BadRequestAlertException("The range must not end before it starts", ENTITY_NAME, "rangeinvalid");
+        }
+        return ResponseEntity.ok(
+            new BusinessDayCountDTO(
+                LocalDate.ofEpochDay(fromEpochDay).toString(),
+                LocalDate.ofEpochDay(toEpochDay).toString(),
+                calendar.countBusinessDays(fromEpochDay, toEpochDay)
+            )
+        );
+    }
+
+    /**
+     * {@code GET  /add} : add working days to a date.
+     *
+     * @param date the date.
+     * @param days the number of working days to add, negative to subtract.
+     * @param holidays the name of the holiday set.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the working day reached, or with status
+     * {@code 400 (Bad Request)} if the date is not valid, it or the working day is not covered, or the holiday set is unknown.
+     */
+    @GetMapping("/add")
+    public ResponseEntity<BusinessDayDTO> addBusinessDays(
+        @RequestParam String date,
+        @RequestParam int days,
+        @RequestParam(required = false) String holidays
+    ) {
+        log.debug("REST request to add {} business days to {}", days, date);
+        BusinessCalendar calendar = findCalendar(holidays);
+        long businessDay = calendar.addBusinessDays(toEpochDay(calendar, date), days);
+        if (businessDay == CalendarEngine.INVALID) {
+            throw notCovered(calendar);
+        }
+        return ResponseEntity.ok(toBusinessDay(calendar, businessDay));
+    }
+
+    /**
+     * {@code POST  /add/batch} : add working days to every date of a JSON array, each in its own holiday set.
+     *
+     * @param additions the dates, numbers of days and holiday sets.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and one outcome per addition, in input order, with
+     * the working day reached or an error, or with status {@code 400 (Bad Request)} if there are more than
+     * {@code max-batch-size} additions.
+     */
+    @PostMapping("/add/batch")
+    public ResponseEntity<List<AddBusinessDaysDTO>> addBusinessDaysBatch(@RequestBody List<AddBusinessDaysDTO> additions) {
+        log.debug("REST request to add business days to {} dates", additions.size());
+        if (additions.size() > maxBatchSize) {
+            throw new BadRequestAlertException("A batch cannot have more than " + maxBatchSize + " dates", ENTITY_NAME, "batchtoolarge");
+        }
+        return ResponseEntity.ok(businessCalendarService.addBusinessDays(additions));
+    }
+
+    private BusinessCalendar findCalendar(String holidays) {
+        return businessCalendarService
+            .findCalendar(holidays)
+            .orElseThrow(() -> new BadRequestAlertException("Unknown holiday set: " + holidays, ENTITY_NAME, "holidaysetunknown"));
+    }
+
+    private static long toEpochDay(BusinessCalendar calendar, String date) {
+        long epochDay = CalendarEngine.parseEpochDay(date, null);
+        if (epochDay == CalendarEngine.INVALID) {
+            throw new BadRequestAlertException("Invalid date", ENTITY_NAME, "dateinvalid");
+        }
+        if (!calendar.covers(epochDay)) {
+            throw notCovered(calendar);
+        }
+        return epochDay;
+    }
+
+    private static BadRequestAlertException notCovered(BusinessCalendar calendar) {
+        return new BadRequestAlertException(
+            "Business days are only known from " + calendar.getFromYear() + " to " + calendar.getToYear(),
+            ENTITY_NAME,
+            "datenotcovered"
+        );
+    }
+
+    private static BusinessDayDTO toBusinessDay(BusinessCalendar calendar, long epochDay) {
+        return new BusinessDayDTO(
+            LocalDate.ofEpochDay(epochDay).toString(),
+            CalendarEngine.dayOfWeek(epochDay).name(),
+            calendar.isBusinessDay(epochDay)
+        );
+    }
+}
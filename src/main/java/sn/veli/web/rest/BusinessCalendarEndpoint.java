@@ -0,0 +1,68 @@
+package sn.veli.web.rest;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import sn.veli.service.BusinessCalendarService;
+
+/**
+ * Actuator endpoint {@code businesscalendar}, restricted to administrators: a {@code GET} lists the holiday sets, a
+ * {@code POST} to {@code /{name}} adds or replaces a set and a {@code DELETE} removes it, without a restart. Changes are
+ * lost on restart, unless also made in {@code application.calendar.business.holiday-sets}.
+ */
+@Component
+@Endpoint(id = "businesscalendar")
+public class BusinessCalendarEndpoint {
+
+    public record HolidaySets(String defaultHolidaySet, Map<String, Set<LocalDate>> holidaySets) {}
+
+    private final BusinessCalendarService businessCalendarService;
+
+    public BusinessCalendarEndpoint(BusinessCalendarService businessCalendarService) {
+        this.businessCalendarService = businessCalendarService;
+    }
+
+    @ReadOperation
+    public HolidaySets holidaySets() {
+        return new HolidaySets(businessCalendarService.getDefaultHolidaySet(), businessCalendarService.getHolidaySets());
+    }
+
+    /**
+     * Add a holiday set, or replace its holidays, given as comma-separated ISO dates: endpoint bodies only hold strings.
+     */
+    @WriteOperation
+    public HolidaySets saveHolidaySet(@Selector String name, String holidays) {
+        Set<LocalDate> dates = new HashSet<>();
+        try {
+            for (String holiday : StringUtils.commaDelimitedListToSet(holidays)) {
+                if (!holiday.isBlank()) {
+                    dates.add(LocalDate.parse(holiday.trim()));
+                }
+            }
+        } catch (DateTimeParseException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        businessCalendarService.saveHolidaySet(name, dates);
+        return holidaySets();
+    }
+
+    @DeleteOperation
+    public HolidaySets deleteHolidaySet(@Selector String name) {
+        try {
+            businessCalendarService.deleteHolidaySet(name);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        return holidaySets();
+    }
+}
@@ -0,0 +1,48 @@
+package sn.veli.web.rest;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.service.calendar.CalendarTableGenerator;
+
+/**
+ * Actuator endpoint {@code calendartable}, restricted to administrators: a {@code POST} starts the calendar table job,
+ * a {@code GET} reports its progress.
+ */
+@Component
+@Endpoint(id = "calendartable")
+public class CalendarTableEndpoint {
+
+    private final CalendarTableGenerator calendarTableGenerator;
+
+    private final ApplicationProperties.Calendar.Table table;
+
+    public CalendarTableEndpoint(CalendarTableGenerator calendarTableGenerator, ApplicationProperties applicationProperties) {
+        this.calendarTableGenerator = calendarTableGenerator;
+        this.table = applicationProperties.getCalendar().getTable();
+    }
+
+    @ReadOperation
+    public CalendarTableGenerator.Progress progress() {
+        return calendarTableGenerator.getProgress();
+    }
+
+    /**
+     * Fill the {@code day} table, from {@code application.calendar.table} unless the range is given.
+     */
+    @WriteOperation
+    public CalendarTableGenerator.Progress start(@Nullable Integer fromYear, @Nullable Integer toYear) {
+        try {
+            return calendarTableGenerator.start(
+                fromYear != null ? fromYear : table.getFromYear(),
+                toYear != null ? toYear : table.getToYear()
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+    }
+}
@@ -1,52 +1,401 @@
 package sn.veli.web.rest;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.ParameterizedTypeReference;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.client.RestClient;
-import org.springframework.web.client.RestTemplate;
-import sn.veli.domain.Day;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import sn.veli.config.ApplicationProperties;
 import sn.veli.service.DayService;
-
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
+import sn.veli.service.calendar.CalendarEngine;
+import sn.veli.service.calendar.DatePattern;
+import sn.veli.service.calendar.DayCursor;
+import sn.veli.service.calendar.MonthGridRenderer;
+import sn.veli.service.dto.DayLookupDTO;
+import sn.veli.service.dto.HistoryEventDTO;
+import sn.veli.service.history.HistoryPublisher;
+import sn.veli.web.rest.errors.BadRequestAlertException;
+import sn.veli.web.rest.errors.ErrorConstants;
+import tech.jhipster.web.rest.errors.ProblemDetailWithCause.ProblemDetailWithCauseBuilder;
 
 @RestController
 @RequestMapping("/services/calendar")
 public class DayController {
 
-    @Autowired
-    private DayService dayService;
+    private static final String ENTITY_NAME = "calendarprincipalDay";
+
+    private static final SerializedString DATE_FIELD = new SerializedString("date");
+
+    private static final SerializedString DAY_OF_WEEK_FIELD = new SerializedString("dayOfWeek");
+
+    private static final SerializedString NEW_LINE = new SerializedString("\n");
+
+    private final Logger log = LoggerFactory.getLogger(DayController.class);
+
+    private final DayService dayService;
+
+    private final HistoryPublisher historyPublisher;
 
+    private final MonthGridRenderer monthGridRenderer;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter ndjsonWriter;
+
+    private final int maxBatchSize;
+
+    private final int maxRangeDays;
+
+    private final CacheControl dayCacheControl;
+
+    private final boolean recordNotModified;
+
+    public DayController(
+        DayService dayService,
+        HistoryPublisher historyPublisher,
+        MonthGridRenderer monthGridRenderer,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
+        this.dayService = dayService;
+        this.historyPublisher = historyPublisher;
+        this.monthGridRenderer = monthGridRenderer;
+        this.objectMapper = objectMapper;
+        this.ndjsonWriter = objectMapper
+            .writerFor(DayLookupDTO.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .without(SerializationFeature.INDENT_OUTPUT)
+            .withRootValueSeparator("\n");
+        this.maxBatchSize = applicationProperties.getCalendar().getMaxBatchSize();
+        this.maxRangeDays = applicationProperties.getCalendar().getMaxRangeDays();
+        this.dayCacheControl = CacheControl.maxAge(applicationProperties.getCalendar().getCacheMaxAge()).cachePublic().immutable();
+        this.recordNotModified =
+            applicationProperties.getHistory().getNotModifiedPolicy() == ApplicationProperties.History.NotModifiedPolicy.RECORD;
+    }
+
+    /**
+     * {@code GET  /dayfinder} : find the day of week of a date.
+     * <p>
+     * The response never changes, so it carries a strong ETag derived from the normalized date and an
+     * immutable {@code Cache-Control}. A matching {@code If-None-Match} is answered with {@code 304 (Not Modified)}
+     * right after the date is normalized, without building the day or, unless configured, recording the search.
+     *
+     * @param date the date to resolve.
+     * @param format the layout of the date, as a pattern ({@code yyyy-MM-dd}) or a {@link DatePattern} name ({@code iso});
+     * detected from the date when absent.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the date with its day of week, with status {@code 304 (Not Modified)}
+     * if the client's copy is current, or with status {@code 400 (Bad Request)} if the format is unknown or the date is not valid.
+     */
     @GetMapping("/dayfinder")
-    public ResponseEntity<Day> getDayByDateString(@RequestParam String date) {
-        System.out.println("On logjgjhjh");
-        Day day = dayService.findDayByDateString(date);
-        // Prepare data for historical microservice
-        String searchDate = LocalDateTime.now().toString(); // Adjust format if needed
-        String request = "Search date: " + date;
-        String response = "Day of week: " + day.getDayOfWeek();
-
-        RestClient restClient = RestClient.create("http://localhost:8081");
-        restClient.post()
-            .uri("/historique/save")
-            .contentType(MediaType.APPLICATION_JSON)
-            .body(new HashMap() {{
-                put("searchDate", searchDate);
-                put("request", request);
-                put("response", response);
-            }})
-            .retrieve()
-            .toBodilessEntity();
-
-        return ResponseEntity.ok(day);
+    public ResponseEntity<DayLookupDTO> getDayByDateString(
+        @RequestParam String date,
+        @RequestParam(required = false) String format,
+        WebRequest webRequest
+    ) {
+        DatePattern pattern = toDatePattern(format);
+        long epochDay = CalendarEngine.parseEpochDay(date, pattern);
+        String etag = epochDay == CalendarEngine.INVALID ? null : etag(epochDay);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            if (recordNotModified) {
+                publishHistory(date, CalendarEngine.dayOfWeek(epochDay).name());
+            }
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(dayCacheControl).build();
+        }
+        log.debug("REST request to find the day of week of : {}", date);
+        DayLookupDTO lookup = dayService.lookupDay(date, pattern);
+        if (!lookup.isResolved()) {
+            // Invalid dates are common client input: answer without building an exception and its stack trace
+            return ResponseEntity.of(invalidDateProblem()).build();
+        }
+        publishHistory(date, lookup.getDayOfWeek());
+        if (etag == null) {
+            // only resolved by the lenient java-time engine, not worth caching
+            return ResponseEntity.ok(lookup);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(dayCacheControl).body(lookup);
+    }
+
+    /**
+     * Record the search for the historical microservice, without waiting for it.
+     */
+    private void publishHistory(String date, String dayOfWeek) {
+        historyPublisher.publish(
+            new HistoryEventDTO(LocalDateTime.now().toString(), "Search date: " + date, "Day of week: " + dayOfWeek)
+        );
     }
 
+    /**
+     * @return a strong ETag naming the date in ISO format, the same for every layout of the date.
+     */
+    private static String etag(long epochDay) {
+        return "\"" + LocalDate.ofEpochDay(epochDay) + "\"";
+    }
+
+    /**
+     * {@code POST  /dayfinder/batch} : find the day of week of every date of a JSON array.
+     *
+     * @param dates the dates to resolve.
+     * @param format the layout of the dates, detected from each date when absent.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and one lookup per date, in input order,
+     * or with status {@code 400 (Bad Request)} if there are more than {@code max-batch-size} dates.
+     */
+    @PostMapping(value = "/dayfinder/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<DayLookupDTO>> getDaysByDateStrings(
+        @RequestBody List<String> dates,
+        @RequestParam(required = false) String format
+    ) {
+        log.debug("REST request to find the day of week of {} dates", dates.size());
+        if (dates.size() > maxBatchSize) {
+            throw new BadRequestAlertException("A batch cannot have more than " + maxBatchSize + " dates", ENTITY_NAME, "batchtoolarge");
+        }
+        List<DayLookupDTO> lookups = dayService.lookupDays(dates, toDatePattern(format));
+        int invalid = 0;
+        for (DayLookupDTO lookup : lookups) {
+            if (!lookup.isResolved()) {
+                invalid++;
+            }
+        }
+        publishBatchHistory(lookups.size() - invalid, invalid);
+        return ResponseEntity.ok(lookups);
+    }
+
+    /**
+     * {@code POST  /dayfinder/batch} : find the day of week of every date of an NDJSON stream.
+     * <p>
+     * Each line holds one date, raw or as a JSON string. Lookups are streamed back as NDJSON while the
+     * request is read; past {@code max-batch-size} dates a final error line is written and reading stops.
+     */
+    @PostMapping(value = "/dayfinder/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamDaysByDateStrings(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        @RequestParam(required = false) String format
+    ) throws IOException {
+        log.debug("REST request to find the day of week of an NDJSON stream of dates");
+        DatePattern pattern = toDatePattern(format);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        int resolved = 0;
+        int invalid = 0;
+        BufferedReader reader = request.getReader();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getWriter())) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String date = line.strip();
+                if (date.isEmpty()) {
+                    continue;
+                }
+                if (resolved + invalid == maxBatchSize) {
+                    String error = "a batch cannot have more than " + maxBatchSize + " dates";
+                    ndjsonWriter.writeValue(generator, new DayLookupDTO(null, null, error));
+                    break;
+                }
+                DayLookupDTO lookup = dayService.lookupDay(unquote(date), pattern);
+                if (lookup.isResolved()) {
+                    resolved++;
+                } else {
+                    invalid++;
+                }
+                ndjsonWriter.writeValue(generator, lookup);
+            }
+            generator.writeRaw('\n');
+        }
+        publishBatchHistory(resolved, invalid);
+    }
+
+    /**
+     * {@code GET  /range} : stream every day between two dates, both included, with its day of week.
+     * <p>
+     * Days are generated lazily while the response is written, so memory use does not depend on the
+     * length of the range. The response is NDJSON, or a single JSON array when only {@code application/json}
+     * is accepted.
+     *
+     * @param from the first date, in any {@link DatePattern} layout.
+     * @param to the last date, in any {@link DatePattern} layout.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the streamed days,
+     * or with status {@code 400 (Bad Request)} if the range is invalid or longer than {@code max-range-days}.
+     */
+    @GetMapping("/range")
+    public ResponseEntity<StreamingResponseBody> getDaysInRange(
+        @RequestParam String from,
+        @RequestParam String to,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        log.debug("REST request to get the days from {} to {}", from, to);
+        DayCursor cursor = dayService
+            .findDaysInRange(from, to)
+            .orElseThrow(() -> new BadRequestAlertException("Invalid date range", ENTITY_NAME, "rangeinvalid"));
+        if (cursor.size() == 0) {
+            throw new BadRequestAlertException("The range must not end before it starts", ENTITY_NAME, "rangeinvalid");
+        }
+        if (cursor.size() > maxRangeDays) {
+            throw new BadRequestAlertException("A range cannot have more than " + maxRangeDays + " days", ENTITY_NAME, "rangetoolarge");
+        }
+        historyPublisher.publish(
+            new HistoryEventDTO(LocalDateTime.now().toString(), "Search range: " + from + " to " + to, "Days: " + cursor.size())
+        );
+
+        boolean jsonArray = acceptsOnlyJson(accept);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                if (jsonArray) {
+                    generator.writeStartArray();
+                } else {
+                    generator.setRootValueSeparator(NEW_LINE);
+                }
+                while (cursor.next()) {
+                    generator.writeStartObject();
+                    generator.writeFieldName(DATE_FIELD);
+                    generator.writeString(cursor.date(), 0, 10);
+                    generator.writeFieldName(DAY_OF_WEEK_FIELD);
+                    generator.writeString(cursor.dayOfWeek().name());
+                    generator.writeEndObject();
+                }
+                if (jsonArray) {
+                    generator.writeEndArray();
+                } else {
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(jsonArray ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * {@code GET  /month} : get the 6-week grid of a month view.
+     * <p>
+     * Each day of the grid has its ISO date, day of week, ISO week number and whether it is in the month. The grid is
+     * served from the rendered JSON kept by {@link MonthGridRenderer}, and like a dayfinder response never changes: it
+     * carries a strong ETag and an immutable {@code Cache-Control}.
+     *
+     * @param year the year, from 1 to 9999.
+     * @param month the month, from 1 to 12.
+     * @param firstDayOfWeek the day of week of the first column, {@code MONDAY} when absent.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the grid, with status {@code 304 (Not Modified)}
+     * if the client's copy is current, or with status {@code 400 (Bad Request)} if the month or the day of week is not valid.
+     */
+    @GetMapping("/month")
+    public ResponseEntity<byte[]> getMonthGrid(
+        @RequestParam int year,
+        @RequestParam int month,
+        @RequestParam(required = false) String firstDayOfWeek,
+        WebRequest webRequest
+    ) {
+        DayOfWeek firstColumn = toDayOfWeek(firstDayOfWeek);
+        if (year < 1 || year > 9999 || month < 1 || month > 12) {
+            throw new BadRequestAlertException("Invalid month: " + year + "-" + month, ENTITY_NAME, "monthinvalid");
+        }
+        String etag = "\"" + year + "-" + month + "-" + firstColumn + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(dayCacheControl).build();
+        }
+        log.debug("REST request to get the grid of {}-{} starting on {}", year, month, firstColumn);
+        byte[] grid = monthGridRenderer.getMonthGrid(year, month, firstColumn);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).eTag(etag).cacheControl(dayCacheControl).body(grid);
+    }
+
+    private static DayOfWeek toDayOfWeek(String dayOfWeek) {
+        if (dayOfWeek == null || dayOfWeek.isEmpty()) {
+            return DayOfWeek.MONDAY;
+        }
+        for (DayOfWeek value : DayOfWeek.values()) {
+            if (value.name().equalsIgnoreCase(dayOfWeek)) {
+                return value;
+            }
+        }
+        throw new BadRequestAlertException("Unknown day of week: " + dayOfWeek, ENTITY_NAME, "dayofweekinvalid");
+    }
+
+    /**
+     * Same problem as a {@link BadRequestAlertException}, built fresh because the problem instance is set per request.
+     */
+    private static ProblemDetail invalidDateProblem() {
+        return ProblemDetailWithCauseBuilder
+            .instance()
+            .withStatus(HttpStatus.BAD_REQUEST.value())
+            .withType(ErrorConstants.DEFAULT_TYPE)
+            .withTitle("Invalid date")
+            .withProperty("message", "error.dateinvalid")
+            .withProperty("params", ENTITY_NAME)
+            .build();
+    }
+
+    /**
+     * @return the layout named by the {@code format} parameter, or {@code null} to detect it from each date.
+     */
+    private static DatePattern toDatePattern(String format) {
+        if (format == null || format.isEmpty()) {
+            return null;
+        }
+        DatePattern pattern = DatePattern.fromFormat(format);
+        if (pattern == null) {
+            throw new BadRequestAlertException("Unknown date format: " + format, ENTITY_NAME, "formatinvalid");
+        }
+        return pattern;
+    }
+
+    private static boolean acceptsOnlyJson(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON)) {
+                return false;
+            }
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String unquote(String date) {
+        if (date.charAt(0) != '"') {
+            return date;
+        }
+        try {
+            return objectMapper.readValue(date, String.class);
+        } catch (JsonProcessingException e) {
+            return date;
+        }
+    }
+
+    /**
+     * One aggregated history record per batch, instead of one per date.
+     */
+    private void publishBatchHistory(int resolved, int invalid) {
+        historyPublisher.publish(
+            new HistoryEventDTO(
+                LocalDateTime.now().toString(),
+                "Search dates: " + (resolved + invalid) + " dates",
+                "Days of week: " + resolved + " resolved, " + invalid + " invalid"
+            )
+        );
+    }
 }
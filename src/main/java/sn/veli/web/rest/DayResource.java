@@ -1,18 +1,36 @@
 package sn.veli.web.rest;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import sn.veli.repository.DayRepository;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import sn.veli.config.ApplicationProperties;
 import sn.veli.service.DayService;
 import sn.veli.service.dto.DayDTO;
 import sn.veli.web.rest.errors.BadRequestAlertException;
@@ -30,16 +48,35 @@ public class DayResource {
 
     private static final String ENTITY_NAME = "calendarprincipalDay";
 
+    private static final String TOTAL_COUNT_ESTIMATE_HEADER = "X-Total-Count-Estimate";
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final SerializedString NEW_LINE = new SerializedString("\n");
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final DayService dayService;
 
-    private final DayRepository dayRepository;
+    private final ObjectMapper objectMapper;
+
+    private final int defaultPageSize;
+
+    private final int maxPageSize;
+
+    private final int maxBulkSize;
 
-    public DayResource(DayService dayService, DayRepository dayRepository) {
+    public DayResource(
+        DayService dayService,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties
+    ) {
         this.dayService = dayService;
-        this.dayRepository = dayRepository;
+        this.objectMapper = objectMapper;
+        this.defaultPageSize = applicationProperties.getDays().getDefaultPageSize();
+        this.maxPageSize = applicationProperties.getDays().getMaxPageSize();
+        this.maxBulkSize = applicationProperties.getDays().getMaxBulkSize();
     }
 
     /**
@@ -63,12 +100,39 @@ public class DayResource {
     }
 
     /**
-     * {@code PUT  /days/:id} : Updates an existing day.
+     * {@code POST  /days/bulk} : Create many new days at once.
+     *
+     * @param dayDTOs the dayDTOs to create.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new dayDTOs, in the same order,
+     * or with status {@code 400 (Bad Request)} if a day has already an ID or there are more than {@code application.days.max-bulk-size} days.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<DayDTO>> createDays(@Valid @RequestBody List<@Valid DayDTO> dayDTOs) {
+        log.debug("REST request to save {} Days", dayDTOs.size());
+        if (dayDTOs.size() > maxBulkSize) {
+            throw new BadRequestAlertException("A bulk request cannot have more than " + maxBulkSize + " days", ENTITY_NAME, "bulktoolarge");
+        }
+        for (DayDTO dayDTO : dayDTOs) {
+            if (dayDTO.getId() != null) {
+                throw new BadRequestAlertException("A new day cannot already have an ID", ENTITY_NAME, "idexists");
+            }
+        }
+        List<DayDTO> result = dayService.saveAll(dayDTOs);
+        return ResponseEntity
+            .status(HttpStatus.CREATED)
+            .headers(HeaderUtil.createAlert(applicationName, result.size() + " new " + ENTITY_NAME + " are created", String.valueOf(result.size())))
+            .body(result);
+    }
+
+    /**
+     * {@code PUT  /days/:id} : Updates an existing day, if it still has the version of the dayDTO.
      *
      * @param id the id of the dayDTO to save.
      * @param dayDTO the dayDTO to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated dayDTO,
-     * or with status {@code 400 (Bad Request)} if the dayDTO is not valid,
+     * or with status {@code 400 (Bad Request)} if the dayDTO is not valid or has no version,
+     * or with status {@code 404 (Not Found)} if the dayDTO is not found,
+     * or with status {@code 409 (Conflict)} if the day was updated since the dayDTO was read,
      * or with status {@code 500 (Internal Server Error)} if the dayDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -83,25 +147,28 @@ public class DayResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!dayRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        if (dayDTO.getVersion() == null) {
+            throw new BadRequestAlertException("Invalid version", ENTITY_NAME, "versionnull");
         }
 
-        DayDTO result = dayService.update(dayDTO);
-        return ResponseEntity
-            .ok()
-            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, dayDTO.getId().toString()))
-            .body(result);
+        Optional<DayDTO> result = dayService.update(dayDTO);
+
+        return ResponseUtil.wrapOrNotFound(
+            result,
+            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, dayDTO.getId().toString())
+        );
     }
 
     /**
-     * {@code PATCH  /days/:id} : Partial updates given fields of an existing day, field will ignore if it is null
+     * {@code PATCH  /days/:id} : Partial updates given fields of an existing day, field will ignore if it is null,
+     * if it still has the version of the dayDTO.
      *
      * @param id the id of the dayDTO to save.
      * @param dayDTO the dayDTO to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated dayDTO,
-     * or with status {@code 400 (Bad Request)} if the dayDTO is not valid,
+     * or with status {@code 400 (Bad Request)} if the dayDTO is not valid or has no version,
      * or with status {@code 404 (Not Found)} if the dayDTO is not found,
+     * or with status {@code 409 (Conflict)} if the day was updated since the dayDTO was read,
      * or with status {@code 500 (Internal Server Error)} if the dayDTO couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
@@ -118,8 +185,8 @@ public class DayResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!dayRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        if (dayDTO.getVersion() == null) {
+            throw new BadRequestAlertException("Invalid version", ENTITY_NAME, "versionnull");
         }
 
         Optional<DayDTO> result = dayService.partialUpdate(dayDTO);
@@ -131,14 +198,163 @@ public class DayResource {
     }
 
     /**
-     * {@code GET  /days} : get all the days.
+     * {@code GET  /days} : get one page of the days, optionally between two dates.
+     * <p>
+     * Days are paginated by date with a keyset: the {@code Link} header names the next page, which starts after the last
+     * date returned. The total count is only computed on demand, and approximately.
      *
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of days in body.
+     * @param from the first date, in ISO format, included.
+     * @param to the last date, in ISO format, included.
+     * @param after the last date of the previous page, excluded.
+     * @param size the page size, {@code application.days.default-page-size} when absent, at most {@code application.days.max-page-size}.
+     * @param count whether to add the approximate total number of days in the {@code X-Total-Count-Estimate} header.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of days in body,
+     * or with status {@code 400 (Bad Request)} if {@code from} is after {@code to} or the size is not positive.
      */
     @GetMapping("")
-    public List<DayDTO> getAllDays() {
-        log.debug("REST request to get all Days");
-        return dayService.findAll();
+    public ResponseEntity<List<DayDTO>> getAllDays(
+        @RequestParam(required = false) LocalDate from,
+        @RequestParam(required = false) LocalDate to,
+        @RequestParam(required = false) LocalDate after,
+        @RequestParam(required = false) Integer size,
+        @RequestParam(defaultValue = "false") boolean count
+    ) {
+        log.debug("REST request to get a page of Days from {} to {} after {}", from, to, after);
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestAlertException("Invalid range", ENTITY_NAME, "rangeinvalid");
+        }
+        int pageSize = size == null ? defaultPageSize : Math.min(size, maxPageSize);
+        if (pageSize < 1) {
+            throw new BadRequestAlertException("The page size must be positive", ENTITY_NAME, "pagesizeinvalid");
+        }
+        LocalDate lowerBound = from;
+        if (after != null && (from == null || !after.isBefore(from))) {
+            lowerBound = after.plusDays(1);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        if (count) {
+            headers.add(TOTAL_COUNT_ESTIMATE_HEADER, Long.toString(dayService.countEstimate()));
+        }
+        if (to != null && lowerBound != null && lowerBound.isAfter(to)) {
+            return ResponseEntity.ok().headers(headers).body(List.of());
+        }
+        Slice<DayDTO> page = dayService.findAll(lowerBound, to, pageSize);
+        if (page.hasNext()) {
+            LocalDate last = page.getContent().get(page.getNumberOfElements() - 1).getDate();
+            String next = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .replaceQueryParam("after", last)
+                .replaceQueryParam("size", pageSize)
+                .replaceQueryParam("count")
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /days/export} : export every day, ordered by date.
+     * <p>
+     * Rows are written one at a time while they are read from the database, so memory use does not depend on the
+     * number of days. The response is NDJSON, CSV when {@code text/csv} is accepted, or a single JSON array when only
+     * {@code application/json} is accepted. The export stops as soon as the client disconnects.
+     *
+     * @param accept the accepted media types.
+     * @param response the response the days are written to.
+     * @throws IOException if the response cannot be written.
+     */
+    @GetMapping("/export")
+    public void exportDays(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, HttpServletResponse response)
+        throws IOException {
+        log.debug("REST request to export all Days");
+        MediaType mediaType = exportMediaType(accept);
+        response.setContentType(mediaType.toString());
+        response.setCharacterEncoding("UTF-8");
+        // the output stream reports a disconnected client, a servlet PrintWriter would swallow the error
+        OutputStream out = response.getOutputStream();
+        try {
+            if (mediaType.equals(TEXT_CSV)) {
+                exportCsv(new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
+            } else {
+                exportJson(out, mediaType.equals(MediaType.APPLICATION_JSON));
+            }
+        } catch (UncheckedIOException e) {
+            // the client went away: the cursor and its transaction are already closed
+            log.debug("Day export stopped: {}", e.getCause().getMessage());
+        }
+    }
+
+    private void exportJson(OutputStream out, boolean jsonArray) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // a pretty printer would put a row over several lines
+            generator.setPrettyPrinter(null);
+            if (jsonArray) {
+                generator.writeStartArray();
+            } else {
+                generator.setRootValueSeparator(NEW_LINE);
+            }
+            dayService.exportAll(day -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", day.getId());
+                    generator.writeStringField("date", day.getDate().toString());
+                    generator.writeStringField("dayOfWeek", day.getDayOfWeek());
+                    generator.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            if (jsonArray) {
+                generator.writeEndArray();
+            } else {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void exportCsv(Writer writer) throws IOException {
+        writer.write("id,date,dayOfWeek\n");
+        dayService.exportAll(day -> {
+            try {
+                writer.write(day.getId().toString());
+                writer.write(',');
+                writer.write(day.getDate().toString());
+                writer.write(',');
+                writeCsvValue(writer, day.getDayOfWeek());
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static MediaType exportMediaType(String accept) {
+        if (accept == null) {
+            return MediaType.APPLICATION_NDJSON;
+        }
+        for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_NDJSON)) {
+                return MediaType.APPLICATION_NDJSON;
+            }
+            if (mediaType.equalsTypeAndSubtype(TEXT_CSV)) {
+                return TEXT_CSV;
+            }
+            if (mediaType.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+        }
+        return MediaType.APPLICATION_NDJSON;
     }
 
     /**
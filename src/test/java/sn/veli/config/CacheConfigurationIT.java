@@ -0,0 +1,89 @@
+package sn.veli.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sn.veli.IntegrationTest;
+import sn.veli.domain.Day;
+import sn.veli.repository.DayRepository;
+import sn.veli.service.DayService;
+import sn.veli.service.dto.DayDTO;
+
+/**
+ * Integration tests for the second-level cache set up by {@link CacheConfiguration}.
+ * <p>
+ * Not transactional: entries are only cached once their transaction commits.
+ */
+@IntegrationTest
+class CacheConfigurationIT {
+
+    private static final LocalDate DATE = LocalDate.of(1999, 12, 31);
+
+    @Autowired
+    private DayService dayService;
+
+    @Autowired
+    private DayRepository dayRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    public void cleanup() {
+        dayRepository.findByDate(DATE).ifPresent(dayRepository::delete);
+    }
+
+    private static DayDTO newDay(String dayOfWeek) {
+        DayDTO dayDTO = new DayDTO();
+        dayDTO.setDate(DATE);
+        dayDTO.setDayOfWeek(dayOfWeek);
+        return dayDTO;
+    }
+
+    @Test
+    void shouldInvalidateCachedDayOnWrite() {
+        DayDTO day = dayService.save(newDay("MONDAY"));
+        Long id = day.getId();
+
+        assertThat(dayService.findOne(id)).map(DayDTO::getDayOfWeek).contains("MONDAY");
+        assertThat(dayRepository.findByDate(DATE)).map(Day::getDayOfWeek).contains("MONDAY");
+        assertThat(entityManagerFactory.getCache().contains(Day.class, id)).isTrue();
+
+        day.setDayOfWeek("FRIDAY");
+        day = dayService.update(day).orElseThrow();
+        assertThat(dayService.findOne(id)).map(DayDTO::getDayOfWeek).contains("FRIDAY");
+        assertThat(dayRepository.findByDate(DATE)).map(Day::getDayOfWeek).contains("FRIDAY");
+
+        DayDTO patch = new DayDTO();
+        patch.setId(id);
+        patch.setVersion(day.getVersion());
+        patch.setDayOfWeek("FRIDAY_PATCHED");
+        dayService.partialUpdate(patch);
+        assertThat(dayService.findOne(id)).map(DayDTO::getDayOfWeek).contains("FRIDAY_PATCHED");
+        assertThat(dayRepository.findByDate(DATE)).map(Day::getDayOfWeek).contains("FRIDAY_PATCHED");
+
+        // a deleted day leaves a soft lock in its region, which reads skip
+        dayService.delete(id);
+        assertThat(dayService.findOne(id)).isEmpty();
+        assertThat(dayRepository.findByDate(DATE)).isEmpty();
+    }
+
+    @Test
+    void shouldExportCacheMetrics() {
+        Long id = dayService.save(newDay("MONDAY")).getId();
+        dayService.findOne(id);
+        dayService.findOne(id);
+
+        double hits = meterRegistry.get("cache.gets").tag("cache", Day.class.getName()).tag("result", "hit").functionCounter().count();
+        assertThat(hits).isPositive();
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", DayRepository.DAY_BY_DATE_CACHE).meter()).isNotNull();
+    }
+}
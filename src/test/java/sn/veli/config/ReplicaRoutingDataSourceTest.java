@@ -0,0 +1,118 @@
+package sn.veli.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Routes between two in-memory H2 databases, standing for the primary and the replica.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SELECT_ORIGIN = "SELECT name FROM origin";
+
+    private DataSource primary;
+
+    private DataSource replica;
+
+    private ApplicationProperties applicationProperties;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+        primary = database("primary");
+        replica = database("replica");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (lag INT)");
+        new JdbcTemplate(replica).execute("INSERT INTO replica_lag VALUES (1)");
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getReplica().setMaxLag(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE origin (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO origin VALUES (?)", name);
+        return dataSource;
+    }
+
+    private ReplicaRoutingDataSource newRoutingDataSource() {
+        return new ReplicaRoutingDataSource(primary, replica, applicationProperties, meterRegistry);
+    }
+
+    private static String origin(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource).queryForObject(SELECT_ORIGIN, String.class));
+    }
+
+    private double routed(String route) {
+        return meterRegistry.get(ReplicaRoutingDataSource.ROUTED_METER_NAME).tag("route", route).counter().count();
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionsToTheReplica() {
+        ReplicaRoutingDataSource routingDataSource = newRoutingDataSource();
+        routingDataSource.afterPropertiesSet();
+        routingDataSource.checkReplica();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        // the proxy reads the default connection settings from its first connection
+        assertThat(new JdbcTemplate(dataSource).queryForObject(SELECT_ORIGIN, String.class)).isEqualTo("primary");
+        double primaryRouted = routed("primary");
+
+        assertThat(origin(dataSource, true)).isEqualTo("replica");
+        assertThat(origin(dataSource, false)).isEqualTo("primary");
+        assertThat(routed("replica")).isEqualTo(1);
+        assertThat(routed("primary")).isEqualTo(primaryRouted + 1);
+    }
+
+    @Test
+    void shouldReadFromThePrimaryWhileTheReplicaLags() {
+        applicationProperties.getReplica().setLagQuery("SELECT lag FROM replica_lag");
+        ReplicaRoutingDataSource routingDataSource = newRoutingDataSource();
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag = 10");
+        routingDataSource.checkReplica();
+        assertThat(origin(dataSource, true)).isEqualTo("primary");
+        assertThat(meterRegistry.get(ReplicaRoutingDataSource.LAG_METER_NAME).gauge().value()).isEqualTo(10);
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag = 1");
+        routingDataSource.checkReplica();
+        assertThat(origin(dataSource, true)).isEqualTo("replica");
+
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET lag = NULL");
+        routingDataSource.checkReplica();
+        assertThat(origin(dataSource, true)).isEqualTo("primary");
+        assertThat(meterRegistry.get(ReplicaRoutingDataSource.LAG_METER_NAME).gauge().value()).isNaN();
+    }
+
+    @Test
+    void shouldReadFromThePrimaryWhenTheReplicaIsDown() {
+        replica = new DriverManagerDataSource("jdbc:h2:mem:missing-" + UUID.randomUUID() + ";IFEXISTS=TRUE");
+        ReplicaRoutingDataSource routingDataSource = newRoutingDataSource();
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        routingDataSource.start();
+        try {
+            assertThat(origin(dataSource, true)).isEqualTo("primary");
+        } finally {
+            routingDataSource.stop();
+        }
+    }
+}
@@ -10,14 +10,14 @@ public class DayTestSamples {
     private static final AtomicLong longCount = new AtomicLong(random.nextInt() + (2 * Integer.MAX_VALUE));
 
     public static Day getDaySample1() {
-        return new Day().id(1L).date("date1").dayOfWeek("dayOfWeek1");
+        return new Day().id(1L).dayOfWeek("dayOfWeek1");
     }
 
     public static Day getDaySample2() {
-        return new Day().id(2L).date("date2").dayOfWeek("dayOfWeek2");
+        return new Day().id(2L).dayOfWeek("dayOfWeek2");
     }
 
     public static Day getDayRandomSampleGenerator() {
-        return new Day().id(longCount.incrementAndGet()).date(UUID.randomUUID().toString()).dayOfWeek(UUID.randomUUID().toString());
+        return new Day().id(longCount.incrementAndGet()).dayOfWeek(UUID.randomUUID().toString());
     }
 }
@@ -0,0 +1,47 @@
+package sn.veli.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import sn.veli.config.ApplicationProperties;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    void shouldRecordPinnedVirtualThreads() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getVirtualThreads().setPinnedThreshold(Duration.ofMillis(10));
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(applicationProperties, meterRegistry);
+        monitor.start();
+        try {
+            // blocking inside a synchronized block pins the virtual thread to its carrier
+            Thread
+                .ofVirtual()
+                .start(() -> {
+                    synchronized (lock) {
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                })
+                .join();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (meterRegistry.get(VirtualThreadPinningMonitor.PINNED_METER_NAME).timer().count() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+            assertThat(meterRegistry.get(VirtualThreadPinningMonitor.PINNED_METER_NAME).timer().count()).isEqualTo(1);
+        } finally {
+            monitor.stop();
+        }
+        assertThat(monitor.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,51 @@
+package sn.veli.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import sn.veli.IntegrationTest;
+import sn.veli.domain.Day;
+
+/**
+ * Integration tests for the queries of {@link DayRepository} written by hand.
+ */
+@IntegrationTest
+@Transactional
+class DayRepositoryIT {
+
+    private static final LocalDate STORED_DATE = LocalDate.of(1899, 12, 31);
+
+    private static final LocalDate NEW_DATE = LocalDate.of(1900, 1, 1);
+
+    @Autowired
+    private DayRepository dayRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    void shouldUpsertOnlyDatesNotStoredYet() {
+        Day stored = dayRepository.saveAndFlush(new Day().date(STORED_DATE).dayOfWeek("STORED"));
+        long countBefore = dayRepository.count();
+
+        List<Day> days = List.of(new Day().date(STORED_DATE).dayOfWeek("SUNDAY"), new Day().date(NEW_DATE).dayOfWeek("MONDAY"));
+        dayRepository.upsertAll(days);
+        dayRepository.upsertAll(days);
+        em.clear();
+
+        assertThat(dayRepository.count()).isEqualTo(countBefore + 1);
+        assertThat(dayRepository.findByDate(STORED_DATE)).hasValueSatisfying(day -> {
+            assertThat(day.getId()).isEqualTo(stored.getId());
+            assertThat(day.getDayOfWeek()).isEqualTo("STORED");
+        });
+        assertThat(dayRepository.findByDate(NEW_DATE)).hasValueSatisfying(day -> {
+            assertThat(day.getId()).isNotNull().isNotEqualTo(stored.getId());
+            assertThat(day.getDayOfWeek()).isEqualTo("MONDAY");
+        });
+    }
+}
@@ -0,0 +1,132 @@
+package sn.veli.service.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BatchWorkerTest {
+
+    private final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<Integer> abandoned = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger idle = new AtomicInteger();
+
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    private volatile RuntimeException failure;
+
+    private final AtomicInteger handled = new AtomicInteger();
+
+    private final BatchWorker.Handler<Integer> handler = new BatchWorker.Handler<>() {
+        @Override
+        public void handle(List<Integer> batch) {
+            batches.add(new ArrayList<>(batch));
+            if (failure != null) {
+                throw failure;
+            }
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            handled.incrementAndGet();
+        }
+
+        @Override
+        public void idle() {
+            idle.incrementAndGet();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        @Override
+        public void abandon(List<Integer> left) {
+            abandoned.addAll(left);
+        }
+    };
+
+    private BatchWorker<Integer> newWorker(Duration shutdownTimeout) {
+        return new BatchWorker<>("test-worker", 3, 2, Duration.ofMillis(20), shutdownTimeout, handler);
+    }
+
+    @Test
+    void shouldHandleBatchesAndDrainOnStop() {
+        BatchWorker<Integer> worker = newWorker(Duration.ofSeconds(5));
+        assertThat(worker.offer(1)).isTrue();
+        assertThat(worker.offer(2)).isTrue();
+        assertThat(worker.offer(3)).isTrue();
+        assertThat(worker.offer(4)).isFalse();
+        assertThat(worker.size()).isEqualTo(3);
+
+        worker.start();
+        assertThat(worker.stop()).isTrue();
+
+        assertThat(batches).containsExactly(List.of(1, 2), List.of(3));
+        assertThat(abandoned).isEmpty();
+        assertThat(worker.isRunning()).isFalse();
+        assertThat(worker.stop()).isFalse();
+    }
+
+    @Test
+    void shouldGoOnAfterAHandlerFailure() throws Exception {
+        failure = new IllegalStateException("handler failure");
+        BatchWorker<Integer> worker = newWorker(Duration.ofSeconds(5));
+        worker.start();
+        worker.offer(1);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while ((batches.isEmpty() || idle.get() < 2) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        failure = null;
+        worker.offer(2);
+        worker.stop();
+
+        assertThat(batches).containsExactly(List.of(1), List.of(2));
+        assertThat(abandoned).isEmpty();
+    }
+
+    @Test
+    void shouldCallIdleWhenNothingIsQueued() throws Exception {
+        BatchWorker<Integer> worker = newWorker(Duration.ofSeconds(5));
+        worker.start();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (idle.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        worker.stop();
+
+        assertThat(idle.get()).isGreaterThanOrEqualTo(2);
+        assertThat(batches).isEmpty();
+    }
+
+    @Test
+    void shouldAbandonWhatIsLeftAfterTheShutdownTimeout() throws Exception {
+        release = new CountDownLatch(1);
+        BatchWorker<Integer> worker = newWorker(Duration.ofMillis(50));
+        worker.start();
+        worker.offer(1);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (batches.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        // the first batch is stuck, these ones are still queued on stop
+        worker.offer(2);
+        worker.offer(3);
+
+        worker.stop();
+
+        assertThat(batches).containsExactly(List.of(1));
+        // the interrupted handler has returned before the rest is abandoned
+        assertThat(handled.get()).isEqualTo(1);
+        assertThat(abandoned).containsExactly(2, 3);
+    }
+}
@@ -0,0 +1,140 @@
+package sn.veli.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class BusinessCalendarTest {
+
+    private static final Set<DayOfWeek> WEEKEND = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+
+    private static final Set<LocalDate> HOLIDAYS = Set.of(
+        LocalDate.of(2026, 1, 1),
+        LocalDate.of(2026, 5, 1),
+        LocalDate.of(2026, 12, 25),
+        // a Sunday, already off
+        LocalDate.of(2026, 11, 1),
+        // outside of the calendar, ignored
+        LocalDate.of(1999, 12, 31)
+    );
+
+    private final BusinessCalendar calendar = BusinessCalendar.of(2000, 2100, WEEKEND, HOLIDAYS);
+
+    private static boolean isBusinessDay(LocalDate date) {
+        return !WEEKEND.contains(date.getDayOfWeek()) && !HOLIDAYS.contains(date);
+    }
+
+    @Test
+    void shouldFindBusinessDays() {
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 10, 19).toEpochDay())).isTrue();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 10, 18).toEpochDay())).isFalse();
+        assertThat(calendar.isBusinessDay(LocalDate.of(2026, 12, 25).toEpochDay())).isFalse();
+        assertThat(calendar.getHolidayCount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldOnlyCountHolidaysOnWorkingDaysOnce() {
+        // Monday 2026-10-19 listed twice, Saturday 2026-10-24 and Sunday 2026-10-25 already off
+        BusinessCalendar october = BusinessCalendar.of(
+            2026,
+            2026,
+            WEEKEND,
+            List.of(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 24), LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 25))
+        );
+
+        assertThat(october.getHolidayCount()).isEqualTo(1);
+        assertThat(october.isBusinessDay(LocalDate.of(2026, 10, 19).toEpochDay())).isFalse();
+        assertThat(october.isBusinessDay(LocalDate.of(2026, 10, 24).toEpochDay())).isFalse();
+        // 2026 has 261 weekdays
+        assertThat(october.countBusinessDays(LocalDate.of(2026, 1, 1).toEpochDay(), LocalDate.of(2026, 12, 31).toEpochDay()))
+            .isEqualTo(260);
+    }
+
+    @Test
+    void shouldFindNextAndPreviousBusinessDays() {
+        // Thursday 2026-12-24, then Christmas and a weekend
+        long christmasEve = LocalDate.of(2026, 12, 24).toEpochDay();
+        assertThat(LocalDate.ofEpochDay(calendar.nextBusinessDay(christmasEve))).isEqualTo(LocalDate.of(2026, 12, 28));
+        assertThat(LocalDate.ofEpochDay(calendar.previousBusinessDay(christmasEve + 4))).isEqualTo(LocalDate.of(2026, 12, 24));
+        // across the first day, 2000-01-01 is a Saturday
+        long first = LocalDate.of(2000, 1, 1).toEpochDay();
+        assertThat(calendar.previousBusinessDay(first)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(calendar.previousBusinessDay(first + 2)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(LocalDate.ofEpochDay(calendar.nextBusinessDay(first))).isEqualTo(LocalDate.of(2000, 1, 3));
+        // 2100-12-31 is a Friday
+        long last = LocalDate.of(2100, 12, 31).toEpochDay();
+        assertThat(calendar.nextBusinessDay(last)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(LocalDate.ofEpochDay(calendar.previousBusinessDay(last))).isEqualTo(LocalDate.of(2100, 12, 30));
+    }
+
+    @Test
+    void shouldCountLikeAWalkThroughTheDays() {
+        Random random = new Random(42);
+        long first = LocalDate.of(2000, 1, 1).toEpochDay();
+        int days = (int) (LocalDate.of(2100, 12, 31).toEpochDay() - first + 1);
+        for (int i = 0; i < 200; i++) {
+            long from = first + random.nextInt(days);
+            long to = Math.min(first + days - 1, from + random.nextInt(i < 100 ? 200 : days));
+            int expected = 0;
+            for (long epochDay = from; epochDay <= to; epochDay++) {
+                if (isBusinessDay(LocalDate.ofEpochDay(epochDay))) {
+                    expected++;
+                }
+            }
+            assertThat(calendar.countBusinessDays(from, to))
+                .as("%s to %s", LocalDate.ofEpochDay(from), LocalDate.ofEpochDay(to))
+                .isEqualTo(expected);
+        }
+        long day = LocalDate.of(2026, 10, 19).toEpochDay();
+        assertThat(calendar.countBusinessDays(day, day)).isEqualTo(1);
+        assertThat(calendar.countBusinessDays(day, day - 1)).isZero();
+        // 2026 has 261 weekdays, three of them holidays
+        long newYear = LocalDate.of(2026, 1, 1).toEpochDay();
+        assertThat(calendar.countBusinessDays(newYear, LocalDate.of(2026, 12, 31).toEpochDay())).isEqualTo(258);
+    }
+
+    @Test
+    void shouldAddLikeAStepThroughTheDays() {
+        Random random = new Random(42);
+        long first = LocalDate.of(2000, 1, 1).toEpochDay();
+        long last = LocalDate.of(2100, 12, 31).toEpochDay();
+        for (int i = 0; i < 200; i++) {
+            long from = first + random.nextInt((int) (last - first + 1));
+            int n = random.nextInt(i < 100 ? 50 : 20_000) - (i < 100 ? 25 : 10_000);
+            long expected = from;
+            for (int remaining = Math.abs(n); remaining > 0 && expected != CalendarEngine.INVALID; ) {
+                expected += Integer.signum(n);
+                if (expected < first || expected > last) {
+                    expected = CalendarEngine.INVALID;
+                } else if (isBusinessDay(LocalDate.ofEpochDay(expected))) {
+                    remaining--;
+                }
+            }
+            assertThat(calendar.addBusinessDays(from, n)).as("%s + %d", LocalDate.ofEpochDay(from), n).isEqualTo(expected);
+        }
+        // Thursday 2026-12-24, then Christmas and a weekend
+        long christmasEve = LocalDate.of(2026, 12, 24).toEpochDay();
+        assertThat(LocalDate.ofEpochDay(calendar.addBusinessDays(christmasEve, 1))).isEqualTo(LocalDate.of(2026, 12, 28));
+        assertThat(LocalDate.ofEpochDay(calendar.addBusinessDays(christmasEve + 1, -1))).isEqualTo(LocalDate.of(2026, 12, 24));
+        assertThat(calendar.addBusinessDays(christmasEve + 1, 0)).isEqualTo(christmasEve + 1);
+        assertThat(calendar.addBusinessDays(christmasEve, Integer.MAX_VALUE)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(calendar.addBusinessDays(christmasEve, Integer.MIN_VALUE)).isEqualTo(CalendarEngine.INVALID);
+        // the last working day of the calendar, 2100-12-31, is a Friday
+        assertThat(calendar.addBusinessDays(last - 1, 1)).isEqualTo(last);
+        assertThat(calendar.addBusinessDays(last, 1)).isEqualTo(CalendarEngine.INVALID);
+    }
+
+    @Test
+    void shouldRejectDaysOutsideOfTheCalendar() {
+        assertThat(calendar.covers(LocalDate.of(1999, 12, 31).toEpochDay())).isFalse();
+        assertThatIllegalArgumentException().isThrownBy(() -> calendar.isBusinessDay(LocalDate.of(2101, 1, 1).toEpochDay()));
+        assertThatIllegalArgumentException().isThrownBy(() -> BusinessCalendar.of(2100, 2000, WEEKEND, HOLIDAYS));
+    }
+}
@@ -0,0 +1,124 @@
+package sn.veli.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.Test;
+
+class CalendarEngineTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private static long parseDayMonthYear(String text) {
+        return CalendarEngine.parseEpochDay(text, DatePattern.DAY_MONTH_YEAR);
+    }
+
+    @Test
+    void shouldMatchJavaTimeForEveryDay() {
+        LocalDate end = LocalDate.of(2401, 1, 1);
+        for (LocalDate date = LocalDate.of(1599, 1, 1); date.isBefore(end); date = date.plusDays(1)) {
+            long epochDay = parseDayMonthYear(date.format(FORMATTER));
+            assertThat(epochDay).isEqualTo(date.toEpochDay());
+            assertThat(CalendarEngine.dayOfWeek(epochDay)).isEqualTo(date.getDayOfWeek());
+        }
+    }
+
+    @Test
+    void shouldMatchJavaTimeAtYearBounds() {
+        assertThat(parseDayMonthYear("01-01-0001")).isEqualTo(LocalDate.of(1, 1, 1).toEpochDay());
+        assertThat(parseDayMonthYear("31-12-9999")).isEqualTo(LocalDate.of(9999, 12, 31).toEpochDay());
+        assertThat(CalendarEngine.dayOfWeek(LocalDate.of(1, 1, 1).toEpochDay())).isEqualTo(LocalDate.of(1, 1, 1).getDayOfWeek());
+    }
+
+    @Test
+    void shouldValidateLeapYears() {
+        assertThat(parseDayMonthYear("29-02-2024")).isNotEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("29-02-2000")).isNotEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("29-02-1900")).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("29-02-2023")).isEqualTo(CalendarEngine.INVALID);
+    }
+
+    @Test
+    void shouldRejectInvalidInput() {
+        assertThat(parseDayMonthYear(null)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("")).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("31-04-2024")).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("00-01-2024")).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("01-13-2024")).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("01-01-0000")).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("1-01-2024")).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("01/01/2024")).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("0a-01-2024")).isEqualTo(CalendarEngine.INVALID);
+        assertThat(parseDayMonthYear("01-01-2024 ")).isEqualTo(CalendarEngine.INVALID);
+    }
+
+    @Test
+    void shouldParseEveryPatternLikeJavaTime() {
+        LocalDate end = LocalDate.of(2101, 1, 1);
+        for (DatePattern pattern : DatePattern.values()) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern.getPattern());
+            for (LocalDate date = LocalDate.of(1899, 1, 1); date.isBefore(end); date = date.plusDays(1)) {
+                String text = date.format(formatter);
+                assertThat(DatePattern.detect(text)).isEqualTo(pattern);
+                assertThat(CalendarEngine.parseEpochDay(text, pattern)).isEqualTo(date.toEpochDay());
+                assertThat(CalendarEngine.parseEpochDay(text, null)).isEqualTo(date.toEpochDay());
+            }
+        }
+    }
+
+    @Test
+    void shouldRejectInputNotMatchingPattern() {
+        assertThat(DatePattern.detect("2024/01/01")).isNull();
+        assertThat(DatePattern.detect("1-1-24")).isNull();
+        assertThat(CalendarEngine.parseEpochDay("2024/01/01", null)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(CalendarEngine.parseEpochDay("01-01-2024", DatePattern.ISO)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(CalendarEngine.parseEpochDay("01/01-2024", DatePattern.DAY_MONTH_YEAR_SLASH)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(CalendarEngine.parseEpochDay("20240230", null)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(CalendarEngine.parseEpochDay("2024013a", null)).isEqualTo(CalendarEngine.INVALID);
+        assertThat(CalendarEngine.parseEpochDay(null, null)).isEqualTo(CalendarEngine.INVALID);
+    }
+
+    @Test
+    void shouldFindPatternByFormat() {
+        assertThat(DatePattern.fromFormat("yyyy-MM-dd")).isEqualTo(DatePattern.ISO);
+        assertThat(DatePattern.fromFormat("iso")).isEqualTo(DatePattern.ISO);
+        assertThat(DatePattern.fromFormat("dd/MM/yyyy")).isEqualTo(DatePattern.DAY_MONTH_YEAR_SLASH);
+        assertThat(DatePattern.fromFormat("yyyy.MM.dd")).isNull();
+    }
+
+    @Test
+    void shouldWalkRangeLikeJavaTime() {
+        DayCursor cursor = CalendarEngine.range("25-12-1899", "05-03-2001");
+        assertThat(cursor).isNotNull();
+        LocalDate expected = LocalDate.of(1899, 12, 25);
+        long count = 0;
+        while (cursor.next()) {
+            assertThat(new String(cursor.date())).isEqualTo(expected.format(FORMATTER));
+            assertThat(cursor.epochDay()).isEqualTo(expected.toEpochDay());
+            assertThat(cursor.dayOfWeek()).isEqualTo(expected.getDayOfWeek());
+            expected = expected.plusDays(1);
+            count++;
+        }
+        assertThat(expected).isEqualTo(LocalDate.of(2001, 3, 6));
+        assertThat(cursor.size()).isEqualTo(count);
+    }
+
+    @Test
+    void shouldOpenEmptyOrInvalidRanges() {
+        DayCursor empty = CalendarEngine.range("02-01-2024", "01-01-2024");
+        assertThat(empty.size()).isZero();
+        assertThat(empty.next()).isFalse();
+
+        DayCursor single = CalendarEngine.range("01-01-2024", "01-01-2024");
+        assertThat(single.next()).isTrue();
+        assertThat(single.next()).isFalse();
+
+        assertThat(CalendarEngine.range("01-01-2024", "32-01-2024")).isNull();
+
+        DayCursor mixed = CalendarEngine.range("2024-02-28", "01/03/2024");
+        assertThat(mixed.size()).isEqualTo(3);
+        assertThat(mixed.next()).isTrue();
+        assertThat(new String(mixed.date())).isEqualTo("28-02-2024");
+    }
+}
@@ -0,0 +1,103 @@
+package sn.veli.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CalendarIndexTest {
+
+    private static final long SUNDAY = LocalDate.of(2026, 10, 18).toEpochDay();
+
+    @Test
+    void shouldPackTheDayOfWeekOfEveryDay() {
+        CalendarIndex index = new CalendarIndex();
+
+        for (LocalDate date : new LocalDate[] { LocalDate.of(1, 1, 1), LocalDate.of(1970, 1, 1), LocalDate.of(9999, 12, 31) }) {
+            assertThat(CalendarIndex.dayOfWeek(index.get(date.toEpochDay()))).isEqualTo(date.getDayOfWeek());
+        }
+        // outside of years 1 to 9999, days have a day of week but no flags
+        LocalDate outside = LocalDate.of(-42, 3, 1);
+        assertThat(CalendarIndex.dayOfWeek(index.get(outside.toEpochDay()))).isEqualTo(outside.getDayOfWeek());
+        assertThat(index.allocatedBytes()).isZero();
+    }
+
+    @Test
+    void shouldSetAndClearFlags() {
+        CalendarIndex index = new CalendarIndex();
+
+        assertThat(index.addFlags(SUNDAY, CalendarIndex.PERSISTED)).isTrue();
+        assertThat(index.addFlags(SUNDAY, CalendarIndex.PERSISTED)).isFalse();
+        assertThat(index.addFlags(SUNDAY, CalendarIndex.PERSISTED | CalendarIndex.HOLIDAY)).isTrue();
+
+        int packed = index.get(SUNDAY);
+        assertThat(CalendarIndex.dayOfWeek(packed)).isEqualTo(DayOfWeek.SUNDAY);
+        assertThat(CalendarIndex.hasFlags(packed, CalendarIndex.PERSISTED | CalendarIndex.HOLIDAY)).isTrue();
+        assertThat(CalendarIndex.hasFlags(index.get(SUNDAY + 1), CalendarIndex.PERSISTED)).isFalse();
+
+        index.removeFlags(SUNDAY, CalendarIndex.PERSISTED);
+        packed = index.get(SUNDAY);
+        assertThat(CalendarIndex.hasFlags(packed, CalendarIndex.PERSISTED)).isFalse();
+        assertThat(CalendarIndex.hasFlags(packed, CalendarIndex.HOLIDAY)).isTrue();
+        assertThat(CalendarIndex.dayOfWeekValue(packed)).isEqualTo(7);
+    }
+
+    @Test
+    void shouldOnlyAllocateFlaggedChunks() {
+        CalendarIndex index = new CalendarIndex();
+        LocalDate first = LocalDate.of(1900, 1, 1);
+        LocalDate last = LocalDate.of(2199, 12, 31);
+
+        for (long epochDay = first.toEpochDay(); epochDay <= last.toEpochDay(); epochDay++) {
+            index.addFlags(epochDay, CalendarIndex.PERSISTED);
+        }
+
+        // 300 years are 109,572 days, one byte each in chunks of 1024 days
+        assertThat(index.allocatedBytes()).isBetween(109_572L, 109_572L + 2 * 1024);
+        assertThat(CalendarIndex.hasFlags(index.get(first.toEpochDay() - 1), CalendarIndex.PERSISTED)).isFalse();
+        assertThat(CalendarIndex.hasFlags(index.get(last.toEpochDay()), CalendarIndex.PERSISTED)).isTrue();
+    }
+
+    @Test
+    void shouldSetEachFlagOnceForConcurrentWriters() throws Exception {
+        CalendarIndex index = new CalendarIndex();
+        AtomicInteger set = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] writers = IntStream
+                .range(0, 4)
+                .mapToObj(writer ->
+                    executor.submit(() -> {
+                        for (int i = 0; i < 10_000; i++) {
+                            if (index.addFlags(SUNDAY + i, CalendarIndex.PERSISTED)) {
+                                set.incrementAndGet();
+                            }
+                        }
+                    })
+                )
+                .toArray(Future[]::new);
+            for (Future<?> writer : writers) {
+                writer.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(set).hasValue(10_000);
+    }
+
+    @Test
+    void shouldRejectFlagsOutsideOfYears1To9999() {
+        CalendarIndex index = new CalendarIndex();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> index.addFlags(LocalDate.of(10000, 1, 1).toEpochDay(), CalendarIndex.HOLIDAY));
+    }
+}
@@ -0,0 +1,63 @@
+package sn.veli.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import sn.veli.IntegrationTest;
+import sn.veli.domain.Day;
+import sn.veli.repository.DayRepository;
+import sn.veli.service.DayService;
+
+/**
+ * Integration tests for the write-behind of the {@link DayRecorder}.
+ * <p>
+ * Not transactional: days are written by the recorder thread, and forgotten once a delete commits.
+ */
+@IntegrationTest
+@TestPropertySource(
+    properties = { "application.calendar.persistence.mode=write-behind", "application.calendar.persistence.flush-interval=20ms" }
+)
+class DayRecorderIT {
+
+    private static final LocalDate DATE = LocalDate.of(1998, 6, 15);
+
+    @Autowired
+    private DayService dayService;
+
+    @Autowired
+    private DayRepository dayRepository;
+
+    @AfterEach
+    public void cleanup() {
+        dayRepository.findByDate(DATE).ifPresent(dayRepository::delete);
+    }
+
+    private Optional<Day> awaitDay() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        Optional<Day> day = dayRepository.findByDate(DATE);
+        while (day.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            day = dayRepository.findByDate(DATE);
+        }
+        return day;
+    }
+
+    @Test
+    void shouldStoreADateAgainAfterItsDayIsDeleted() throws Exception {
+        dayService.lookupDay("15-06-1998", DatePattern.DAY_MONTH_YEAR);
+        Day day = awaitDay().orElseThrow();
+        assertThat(day.getDayOfWeek()).isEqualTo("MONDAY");
+
+        dayService.delete(day.getId());
+        assertThat(dayRepository.findByDate(DATE)).isEmpty();
+
+        dayService.lookupDay("15-06-1998", DatePattern.DAY_MONTH_YEAR);
+        assertThat(awaitDay()).map(Day::getDayOfWeek).contains("MONDAY");
+    }
+}
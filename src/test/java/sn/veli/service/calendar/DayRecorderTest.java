@@ -0,0 +1,124 @@
+package sn.veli.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.domain.Day;
+import sn.veli.repository.DayRepository;
+
+class DayRecorderTest {
+
+    private static final long MONDAY = LocalDate.of(2026, 10, 19).toEpochDay();
+
+    private final List<List<Day>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private DayRepository dayRepository;
+
+    private CalendarIndex calendarIndex;
+
+    private MeterRegistry meterRegistry;
+
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    public void setup() {
+        dayRepository = mock(DayRepository.class);
+        calendarIndex = new CalendarIndex();
+        doAnswer(invocation -> batches.add(new ArrayList<>(invocation.getArgument(0)))).when(dayRepository).upsertAll(anyList());
+        meterRegistry = new SimpleMeterRegistry();
+        applicationProperties = new ApplicationProperties();
+        ApplicationProperties.Calendar.Persistence persistence = applicationProperties.getCalendar().getPersistence();
+        persistence.setMode(ApplicationProperties.Calendar.Persistence.Mode.WRITE_BEHIND);
+        persistence.setQueueCapacity(3);
+        persistence.setBatchSize(2);
+        persistence.setFlushInterval(Duration.ofMillis(20));
+    }
+
+    private DayRecorder newRecorder() {
+        return new DayRecorder(dayRepository, calendarIndex, mock(PlatformTransactionManager.class), applicationProperties, meterRegistry);
+    }
+
+    private double days(String outcome) {
+        return meterRegistry.get(DayRecorder.DAYS_METER_NAME).tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void shouldQueueEachDateOnce() {
+        DayRecorder recorder = newRecorder();
+
+        recorder.record(MONDAY);
+        recorder.record(MONDAY);
+        recorder.record(MONDAY + 1);
+
+        assertThat(days("enqueued")).isEqualTo(2);
+        assertThat(meterRegistry.get(DayRecorder.QUEUE_DEPTH_METER_NAME).gauge().value()).isEqualTo(2);
+        assertThat(CalendarIndex.hasFlags(calendarIndex.get(MONDAY), CalendarIndex.PERSISTED)).isTrue();
+        assertThat(CalendarIndex.dayOfWeekValue(recorder.record(MONDAY + 2))).isEqualTo(3);
+    }
+
+    @Test
+    void shouldWriteSortedBatchesAndDrainOnStop() {
+        DayRecorder recorder = newRecorder();
+        recorder.record(MONDAY + 1);
+        recorder.record(MONDAY);
+        recorder.record(MONDAY + 2);
+
+        recorder.start();
+        recorder.stop();
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).extracting(Day::getDate).containsExactly(LocalDate.of(2026, 10, 19), LocalDate.of(2026, 10, 20));
+        assertThat(batches.get(0)).extracting(Day::getDayOfWeek).containsExactly("MONDAY", "TUESDAY");
+        assertThat(batches.get(1)).extracting(Day::getDate).containsExactly(LocalDate.of(2026, 10, 21));
+        assertThat(days("written")).isEqualTo(3);
+    }
+
+    @Test
+    void shouldForgetDatesThatWereNotStored() {
+        DayRecorder recorder = newRecorder();
+        for (int i = 0; i < 4; i++) {
+            recorder.record(MONDAY + i);
+        }
+        assertThat(days("dropped")).isEqualTo(1);
+
+        doThrow(new IllegalStateException("database is down")).when(dayRepository).upsertAll(anyList());
+        recorder.start();
+        recorder.stop();
+        assertThat(days("failed")).isEqualTo(3);
+
+        assertThat(CalendarIndex.hasFlags(calendarIndex.get(MONDAY), CalendarIndex.PERSISTED)).isFalse();
+        recorder.record(MONDAY);
+        recorder.record(MONDAY + 3);
+        assertThat(days("enqueued")).isEqualTo(5);
+    }
+
+    @Test
+    void shouldIgnoreDatesWhenDisabled() {
+        applicationProperties.getCalendar().getPersistence().setMode(ApplicationProperties.Calendar.Persistence.Mode.NONE);
+        DayRecorder recorder = newRecorder();
+
+        recorder.record(MONDAY);
+        recorder.start();
+        recorder.stop();
+
+        assertThat(recorder.isRunning()).isFalse();
+        assertThat(days("enqueued")).isZero();
+        verify(dayRepository, never()).upsertAll(anyList());
+    }
+}
@@ -0,0 +1,109 @@
+package sn.veli.service.calendar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.DayOfWeek;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import sn.veli.config.ApplicationProperties;
+
+class MonthGridRendererTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ApplicationProperties applicationProperties;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+        applicationProperties = new ApplicationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private MonthGridRenderer newRenderer() {
+        return new MonthGridRenderer(objectMapper, applicationProperties, meterRegistry);
+    }
+
+    @Test
+    void shouldRenderSixWeeksFromTheFirstDayOfWeek() throws Exception {
+        JsonNode grid = objectMapper.readTree(newRenderer().getMonthGrid(2026, 10, DayOfWeek.MONDAY));
+
+        assertThat(grid.get("year").asInt()).isEqualTo(2026);
+        assertThat(grid.get("month").asInt()).isEqualTo(10);
+        assertThat(grid.get("firstDayOfWeek").asText()).isEqualTo("MONDAY");
+        JsonNode weeks = grid.get("weeks");
+        assertThat(weeks).hasSize(MonthGridRenderer.WEEKS);
+        // 2026-10-01 is a Thursday
+        JsonNode first = weeks.get(0).get(0);
+        assertThat(first.get("date").asText()).isEqualTo("2026-09-28");
+        assertThat(first.get("dayOfWeek").asText()).isEqualTo("MONDAY");
+        assertThat(first.get("isoWeek").asInt()).isEqualTo(40);
+        assertThat(first.get("inMonth").asBoolean()).isFalse();
+        assertThat(weeks.get(0).get(3).get("date").asText()).isEqualTo("2026-10-01");
+        assertThat(weeks.get(0).get(3).get("inMonth").asBoolean()).isTrue();
+        JsonNode last = weeks.get(5).get(6);
+        assertThat(last.get("date").asText()).isEqualTo("2026-11-08");
+        assertThat(last.get("inMonth").asBoolean()).isFalse();
+        int inMonth = 0;
+        for (JsonNode week : weeks) {
+            assertThat(week).hasSize(7);
+            for (JsonNode day : week) {
+                inMonth += day.get("inMonth").asBoolean() ? 1 : 0;
+            }
+        }
+        assertThat(inMonth).isEqualTo(31);
+    }
+
+    @Test
+    void shouldStartOnTheFirstOfTheMonthWhenItIsTheFirstDayOfWeek() throws Exception {
+        // 2026-02-01 is a Sunday, in ISO week 5
+        JsonNode weeks = objectMapper.readTree(newRenderer().getMonthGrid(2026, 2, DayOfWeek.SUNDAY)).get("weeks");
+
+        assertThat(weeks.get(0).get(0).get("date").asText()).isEqualTo("2026-02-01");
+        assertThat(weeks.get(0).get(0).get("isoWeek").asInt()).isEqualTo(5);
+        assertThat(weeks.get(0).get(1).get("isoWeek").asInt()).isEqualTo(6);
+        assertThat(weeks.get(4).get(0).get("date").asText()).isEqualTo("2026-03-01");
+    }
+
+    @Test
+    void shouldKeepTheRenderedBytes() {
+        MonthGridRenderer renderer = newRenderer();
+
+        byte[] grid = renderer.getMonthGrid(2026, 10, DayOfWeek.MONDAY);
+
+        assertThat(renderer.getMonthGrid(2026, 10, DayOfWeek.MONDAY)).isSameAs(grid);
+        assertThat(renderer.getMonthGrid(2026, 10, DayOfWeek.SUNDAY)).isNotEqualTo(grid);
+        double hits = meterRegistry
+            .get("cache.gets")
+            .tag("cache", MonthGridRenderer.MONTH_GRID_CACHE)
+            .tag("result", "hit")
+            .functionCounter()
+            .count();
+        assertThat(hits).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRenderEveryRequestWithoutEntries() {
+        applicationProperties.getCalendar().setMonthCacheMaxEntries(0);
+        MonthGridRenderer renderer = newRenderer();
+
+        byte[] grid = renderer.getMonthGrid(2026, 10, DayOfWeek.MONDAY);
+
+        assertThat(renderer.getMonthGrid(2026, 10, DayOfWeek.MONDAY)).isNotSameAs(grid).isEqualTo(grid);
+        assertThat(meterRegistry.find("cache.gets").meter()).isNull();
+    }
+
+    @Test
+    void shouldRejectInvalidMonths() {
+        MonthGridRenderer renderer = newRenderer();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> renderer.getMonthGrid(2026, 13, DayOfWeek.MONDAY));
+        assertThatIllegalArgumentException().isThrownBy(() -> renderer.getMonthGrid(0, 1, DayOfWeek.MONDAY));
+    }
+}
@@ -0,0 +1,198 @@
+package sn.veli.service.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.service.dto.HistoryEventDTO;
+
+class HistoryPublisherTest {
+
+    @TempDir
+    Path spoolDirectory;
+
+    private final List<List<HistoryEventDTO>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile boolean downstreamAvailable = true;
+
+    /**
+     * Number of events of the next batch accepted before the history service fails, when it is down.
+     */
+    private volatile int deliveredBeforeFailure;
+
+    private MeterRegistry meterRegistry;
+
+    private ApplicationProperties applicationProperties;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        applicationProperties = new ApplicationProperties();
+        ApplicationProperties.History history = applicationProperties.getHistory();
+        history.setQueueCapacity(3);
+        history.setBatchSize(2);
+        history.setFlushInterval(Duration.ofMillis(20));
+        history.getSpool().setDirectory(spoolDirectory.toString());
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (events("sent") < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private List<String> sentRequests() {
+        return batches.stream().flatMap(List::stream).map(HistoryEventDTO::getRequest).toList();
+    }
+
+    private HistoryPublisher newPublisher() {
+        HistoryClient client = events -> {
+            if (!downstreamAvailable) {
+                IllegalStateException down = new IllegalStateException("history service is down");
+                int delivered = Math.min(deliveredBeforeFailure, events.size());
+                deliveredBeforeFailure = 0;
+                if (delivered == 0) {
+                    throw down;
+                }
+                batches.add(new ArrayList<>(events.subList(0, delivered)));
+                throw new HistoryDeliveryException(delivered, events.size(), down);
+            }
+            batches.add(new ArrayList<>(events));
+        };
+        return new HistoryPublisher(client, applicationProperties, new ObjectMapper(), meterRegistry);
+    }
+
+    private static HistoryEventDTO event(int i) {
+        return new HistoryEventDTO("now", "Search date: " + i, "Day of week: MONDAY");
+    }
+
+    private double events(String outcome) {
+        return meterRegistry.get(HistoryPublisher.EVENTS_METER_NAME).tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    void shouldDropWhenQueueIsFull() {
+        HistoryPublisher publisher = newPublisher();
+
+        assertThat(publisher.publish(event(1))).isTrue();
+        assertThat(publisher.publish(event(2))).isTrue();
+        assertThat(publisher.publish(event(3))).isTrue();
+        assertThat(publisher.publish(event(4))).isFalse();
+
+        assertThat(meterRegistry.get(HistoryPublisher.QUEUE_DEPTH_METER_NAME).gauge().value()).isEqualTo(3);
+        assertThat(events("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSendInBatchesAndDrainOnStop() {
+        HistoryPublisher publisher = newPublisher();
+        publisher.publish(event(1));
+        publisher.publish(event(2));
+        publisher.publish(event(3));
+
+        publisher.start();
+        publisher.stop();
+
+        assertThat(batches).hasSize(2);
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(batches.get(1)).extracting(HistoryEventDTO::getRequest).containsExactly("Search date: 3");
+        assertThat(events("sent")).isEqualTo(3);
+        assertThat(meterRegistry.get(HistoryPublisher.BATCH_SIZE_METER_NAME).summary().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSpillOverflowAndReplayIt() throws Exception {
+        applicationProperties.getHistory().setOverflowPolicy(ApplicationProperties.History.OverflowPolicy.SPILL);
+        HistoryPublisher publisher = newPublisher();
+        for (int i = 1; i <= 5; i++) {
+            assertThat(publisher.publish(event(i))).isTrue();
+        }
+        assertThat(events("spilled")).isEqualTo(2);
+
+        publisher.start();
+        awaitSent(5);
+        publisher.stop();
+
+        assertThat(sentRequests()).containsExactly("Search date: 1", "Search date: 2", "Search date: 3", "Search date: 4", "Search date: 5");
+    }
+
+    @Test
+    void shouldSpoolWhileDownstreamIsDownAndReplayInOrder() throws Exception {
+        downstreamAvailable = false;
+        HistoryPublisher publisher = newPublisher();
+        publisher.start();
+        publisher.publish(event(1));
+        publisher.publish(event(2));
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (events("spilled") < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(events("spilled")).isEqualTo(2);
+
+        // published while the spool holds older events: spooled behind them
+        publisher.publish(event(3));
+        downstreamAvailable = true;
+        awaitSent(3);
+        publisher.publish(event(4));
+        awaitSent(4);
+        publisher.stop();
+
+        assertThat(sentRequests()).containsExactly("Search date: 1", "Search date: 2", "Search date: 3", "Search date: 4");
+        assertThat(meterRegistry.get(HistoryPublisher.SPOOL_SIZE_METER_NAME).gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldOnlySpoolEventsNotDelivered() throws Exception {
+        downstreamAvailable = false;
+        deliveredBeforeFailure = 1;
+        HistoryPublisher publisher = newPublisher();
+        publisher.publish(event(1));
+        publisher.publish(event(2));
+        publisher.start();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (events("spilled") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(events("sent")).isEqualTo(1);
+        assertThat(events("failed")).isEqualTo(1);
+        assertThat(events("spilled")).isEqualTo(1);
+
+        downstreamAvailable = true;
+        awaitSent(2);
+        publisher.stop();
+
+        assertThat(sentRequests()).containsExactly("Search date: 1", "Search date: 2");
+    }
+
+    @Test
+    void shouldReplayEventsSpooledBeforeRestart() throws Exception {
+        downstreamAvailable = false;
+        HistoryPublisher publisher = newPublisher();
+        publisher.publish(event(1));
+        publisher.publish(event(2));
+        publisher.start();
+        publisher.stop();
+        assertThat(events("sent")).isZero();
+
+        downstreamAvailable = true;
+        meterRegistry = new SimpleMeterRegistry();
+        HistoryPublisher restarted = newPublisher();
+        restarted.publish(event(3));
+        restarted.start();
+        awaitSent(3);
+        restarted.stop();
+
+        assertThat(sentRequests()).containsExactly("Search date: 1", "Search date: 2", "Search date: 3");
+    }
+}
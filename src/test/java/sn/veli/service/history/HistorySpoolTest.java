@@ -0,0 +1,143 @@
+package sn.veli.service.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import sn.veli.service.dto.HistoryEventDTO;
+
+class HistorySpoolTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path directory;
+
+    private static HistoryEventDTO event(int i) {
+        return new HistoryEventDTO("now", "Search date: " + i, "Day of week: MONDAY");
+    }
+
+    private static List<String> replayAll(HistorySpool spool, int batchSize) throws Exception {
+        List<String> requests = new ArrayList<>();
+        spool.replay(batchSize, batch -> batch.forEach(event -> requests.add(event.getRequest())));
+        return requests;
+    }
+
+    private long segmentCount() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-")).count();
+        }
+    }
+
+    @Test
+    void shouldRotateSegmentsAndReplayInOrder() throws Exception {
+        HistorySpool spool = new HistorySpool(directory, 200, 10_000, OBJECT_MAPPER);
+        for (int i = 1; i <= 10; i++) {
+            assertThat(spool.append(event(i))).isTrue();
+        }
+        assertThat(segmentCount()).isGreaterThan(1);
+
+        assertThat(replayAll(spool, 3)).containsExactly(
+            "Search date: 1",
+            "Search date: 2",
+            "Search date: 3",
+            "Search date: 4",
+            "Search date: 5",
+            "Search date: 6",
+            "Search date: 7",
+            "Search date: 8",
+            "Search date: 9",
+            "Search date: 10"
+        );
+        assertThat(spool.hasPending()).isFalse();
+        assertThat(spool.size()).isZero();
+        assertThat(segmentCount()).isZero();
+        spool.close();
+    }
+
+    @Test
+    void shouldWriteOneEventPerLineWithIndentingMapper() throws Exception {
+        HistorySpool spool = new HistorySpool(directory, 10_000, 10_000, new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT));
+        spool.appendAll(List.of(event(1), event(2)));
+
+        assertThat(replayAll(spool, 10)).containsExactly("Search date: 1", "Search date: 2");
+        spool.close();
+    }
+
+    @Test
+    void shouldRefuseEventsOnceFull() throws Exception {
+        HistorySpool spool = new HistorySpool(directory, 200, 300, OBJECT_MAPPER);
+        int appended = spool.appendAll(List.of(event(1), event(2), event(3), event(4), event(5), event(6)));
+
+        assertThat(appended).isBetween(1, 5);
+        assertThat(spool.size()).isLessThanOrEqualTo(300);
+        assertThat(spool.append(event(7))).isFalse();
+        spool.close();
+    }
+
+    @Test
+    void shouldRefuseEventsOnceClosed() throws Exception {
+        HistorySpool spool = new HistorySpool(directory, 10_000, 10_000, OBJECT_MAPPER);
+        spool.append(event(1));
+        spool.close();
+
+        assertThat(spool.append(event(2))).isFalse();
+        assertThat(spool.appendAll(List.of(event(3)))).isZero();
+        assertThat(segmentCount()).isEqualTo(1);
+        assertThat(new HistorySpool(directory, 10_000, 10_000, OBJECT_MAPPER).size()).isEqualTo(spool.size());
+    }
+
+    @Test
+    void shouldResumeFromCheckpointAfterFailedBatch() throws Exception {
+        HistorySpool spool = new HistorySpool(directory, 10_000, 10_000, OBJECT_MAPPER);
+        spool.appendAll(List.of(event(1), event(2), event(3), event(4), event(5)));
+
+        List<String> sent = new ArrayList<>();
+        assertThatThrownBy(() ->
+                spool.replay(
+                    2,
+                    batch -> {
+                        if (!sent.isEmpty()) {
+                            throw new IllegalStateException("history service is down");
+                        }
+                        batch.forEach(event -> sent.add(event.getRequest()));
+                    }
+                )
+            )
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(sent).containsExactly("Search date: 1", "Search date: 2");
+        assertThat(spool.hasPending()).isTrue();
+
+        assertThat(replayAll(spool, 2)).containsExactly("Search date: 3", "Search date: 4", "Search date: 5");
+        spool.close();
+    }
+
+    @Test
+    void shouldRecoverSegmentsAndSkipTruncatedEvent() throws Exception {
+        HistorySpool spool = new HistorySpool(directory, 10_000, 10_000, OBJECT_MAPPER);
+        spool.appendAll(List.of(event(1), event(2)));
+        spool.close();
+        // simulate a crash in the middle of an append
+        try (Stream<Path> files = Files.list(directory)) {
+            Path segment = files.filter(file -> file.getFileName().toString().startsWith("segment-")).findFirst().orElseThrow();
+            Files.writeString(segment, "{\"searchDate\":\"now\",\"requ", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        }
+
+        HistorySpool recovered = new HistorySpool(directory, 10_000, 10_000, OBJECT_MAPPER);
+        assertThat(recovered.hasPending()).isTrue();
+        recovered.append(event(3));
+
+        assertThat(replayAll(recovered, 10)).containsExactly("Search date: 1", "Search date: 2", "Search date: 3");
+        recovered.close();
+    }
+}
@@ -0,0 +1,86 @@
+package sn.veli.service.history;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the history microservice, with injectable latency and error status.
+ */
+public class HistoryStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final AtomicLong latencyMillis = new AtomicLong();
+
+    private final AtomicInteger status = new AtomicInteger(200);
+
+    private final AtomicInteger successesLeft = new AtomicInteger(Integer.MAX_VALUE);
+
+    private final Queue<String> bodies = new ConcurrentLinkedQueue<>();
+
+    public HistoryStubServer() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        server.setExecutor(executor);
+        server.createContext(
+            "/",
+            exchange -> {
+                try (InputStream in = exchange.getRequestBody()) {
+                    bodies.add(new String(in.readAllBytes()));
+                }
+                try {
+                    Thread.sleep(latencyMillis.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.sendResponseHeaders(successesLeft.getAndDecrement() > 0 ? status.get() : 500, -1);
+                exchange.close();
+            }
+        );
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void setLatency(Duration latency) {
+        latencyMillis.set(latency.toMillis());
+    }
+
+    public void setStatus(int status) {
+        this.status.set(status);
+    }
+
+    /**
+     * Answer {@code 500} to every request after the next {@code successes} ones.
+     */
+    public void failAfter(int successes) {
+        successesLeft.set(successes);
+    }
+
+    public Queue<String> bodies() {
+        return bodies;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
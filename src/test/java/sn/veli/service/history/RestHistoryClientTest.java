@@ -0,0 +1,140 @@
+package sn.veli.service.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.config.HistoryClientConfiguration;
+import sn.veli.service.dto.HistoryEventDTO;
+
+class RestHistoryClientTest {
+
+    private static final List<HistoryEventDTO> EVENTS = List.of(new HistoryEventDTO("now", "Search date: 01-01-2024", "Day of week: MONDAY"));
+
+    private HistoryStubServer stub;
+
+    private HttpComponentsClientHttpRequestFactory requestFactory;
+
+    private MeterRegistry meterRegistry;
+
+    private RestHistoryClient client;
+
+    @BeforeEach
+    public void setup() {
+        stub = new HistoryStubServer();
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getHistory().setBaseUrl(stub.baseUrl());
+        applicationProperties.getHistory().getClient().setReadTimeout(Duration.ofMillis(500));
+
+        HistoryClientConfiguration configuration = new HistoryClientConfiguration();
+        requestFactory = configuration.historyRequestFactory(applicationProperties);
+        RestClient restClient = configuration.historyRestClient(RestClient.builder(), requestFactory, applicationProperties);
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(
+            CircuitBreakerConfig
+                .custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .ignoreExceptions(BulkheadFullException.class)
+                .build()
+        );
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(
+            BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()
+        );
+        meterRegistry = new SimpleMeterRegistry();
+        client = new RestHistoryClient(restClient, circuitBreakerRegistry, bulkheadRegistry, meterRegistry, applicationProperties);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        requestFactory.destroy();
+        stub.close();
+    }
+
+    private long requests(String outcome) {
+        return meterRegistry.get(RestHistoryClient.REQUESTS_METER_NAME).tag("outcome", outcome).timer().count();
+    }
+
+    @Test
+    void shouldPostEventsToSavePath() {
+        client.send(EVENTS);
+        client.send(EVENTS);
+
+        assertThat(stub.bodies()).hasSize(2).allSatisfy(body -> assertThat(body).contains("Search date: 01-01-2024"));
+        assertThat(requests("success")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReportEventsDeliveredBeforeAFailure() {
+        List<HistoryEventDTO> events = List.of(
+            new HistoryEventDTO("now", "Search date: 01-01-2024", "Day of week: MONDAY"),
+            new HistoryEventDTO("now", "Search date: 02-01-2024", "Day of week: TUESDAY"),
+            new HistoryEventDTO("now", "Search date: 03-01-2024", "Day of week: WEDNESDAY")
+        );
+        stub.failAfter(1);
+
+        assertThatThrownBy(() -> client.send(events))
+            .isInstanceOfSatisfying(HistoryDeliveryException.class, e -> assertThat(e.getDelivered()).isEqualTo(1))
+            .hasCauseInstanceOf(RestClientResponseException.class);
+        assertThat(stub.bodies()).hasSize(2);
+        assertThat(requests("success")).isEqualTo(1);
+        assertThat(requests("http-error")).isEqualTo(1);
+        // nothing was delivered
+        assertThatThrownBy(() -> client.send(events)).isInstanceOf(RestClientResponseException.class);
+    }
+
+    @Test
+    void shouldTimeOutSlowCalls() {
+        stub.setLatency(Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> client.send(EVENTS)).isInstanceOf(ResourceAccessException.class);
+        assertThat(requests("io-error")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldOpenCircuitOnErrors() {
+        stub.setStatus(500);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> client.send(EVENTS)).isInstanceOf(RestClientResponseException.class);
+        }
+
+        assertThatThrownBy(() -> client.send(EVENTS)).isInstanceOf(CallNotPermittedException.class);
+        assertThat(stub.bodies()).hasSize(4);
+        assertThat(requests("http-error")).isEqualTo(4);
+        assertThat(requests("short-circuited")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectCallsBeyondBulkhead() throws Exception {
+        stub.setLatency(Duration.ofMillis(100));
+        CompletableFuture<Void> inFlight = CompletableFuture.runAsync(() -> client.send(EVENTS));
+        while (stub.bodies().isEmpty()) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> client.send(EVENTS)).isInstanceOf(BulkheadFullException.class);
+        inFlight.get();
+        assertThat(requests("rejected")).isEqualTo(1);
+        assertThat(requests("success")).isEqualTo(1);
+    }
+}
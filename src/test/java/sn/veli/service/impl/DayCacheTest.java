@@ -0,0 +1,183 @@
+package sn.veli.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.domain.Day;
+import sn.veli.repository.DayRepository;
+import sn.veli.service.dto.DayDTO;
+import sn.veli.service.mapper.DayMapperImpl;
+
+class DayCacheTest {
+
+    private static final Long ID = 1501L;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private DayRepository dayRepository;
+
+    private ApplicationProperties applicationProperties;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    public void setup() {
+        dayRepository = mock(DayRepository.class);
+        // each load returns the next version of the day
+        when(dayRepository.findById(ID)).thenAnswer(invocation -> Optional.of(loadDay()));
+        applicationProperties = new ApplicationProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private Day loadDay() {
+        return new Day().id(ID).date(LocalDate.of(2026, 10, 18)).dayOfWeek("SUNDAY").version(loads.incrementAndGet());
+    }
+
+    @AfterEach
+    public void cleanup() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    private DayCache newCache() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        return new DayCache(dayRepository, new DayMapperImpl(), applicationProperties, transactionManager, meterRegistry);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", DayCache.DAY_BY_ID_CACHE).tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void shouldLoadEachDayOnce() {
+        DayCache dayCache = newCache();
+
+        assertThat(dayCache.get(ID)).map(DayDTO::getVersion).contains(1);
+        assertThat(dayCache.get(ID)).map(DayDTO::getVersion).contains(1);
+
+        assertThat(loads).hasValue(1);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+        assertThat(meterRegistry.get(DayCache.HIT_RATIO_METER_NAME).gauge().value()).isEqualTo(0.5);
+        assertThat(meterRegistry.get("cache.load").tag("result", "success").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.load.duration").tag("cache", DayCache.DAY_BY_ID_CACHE).timeGauge().value()).isPositive();
+    }
+
+    @Test
+    void shouldNotCacheMissingDays() {
+        DayCache dayCache = newCache();
+
+        when(dayRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        assertThat(dayCache.get(ID)).isEmpty();
+        assertThat(dayCache.get(ID)).isEmpty();
+        assertThat(gets("hit")).isZero();
+    }
+
+    @Test
+    void shouldLoadOnceForConcurrentMisses() throws Exception {
+        DayCache dayCache = newCache();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                loading.countDown();
+                assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+                return Optional.of(loadDay());
+            })
+            .when(dayRepository)
+            .findById(ID);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Optional<DayDTO>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> dayCache.get(ID)));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> dayCache.get(ID)));
+            }
+            release.countDown();
+            for (Future<Optional<DayDTO>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isPresent();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldEvictOnceCommitted() {
+        DayCache dayCache = newCache();
+        dayCache.get(ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        dayCache.evictAfterCommit(ID);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // not committed yet
+        assertThat(dayCache.get(ID)).map(DayDTO::getVersion).contains(1);
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(dayCache.get(ID)).map(DayDTO::getVersion).contains(2);
+    }
+
+    @Test
+    void shouldEvictRightAwayWithoutTransaction() {
+        DayCache dayCache = newCache();
+        dayCache.get(ID);
+
+        dayCache.evictAfterCommit(ID);
+
+        assertThat(dayCache.get(ID)).map(DayDTO::getVersion).contains(2);
+    }
+
+    @Test
+    void shouldBypassTheCacheInsideTransactions() {
+        DayCache dayCache = newCache();
+        dayCache.get(ID);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThat(dayCache.get(ID)).map(DayDTO::getVersion).contains(2);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+        assertThat(dayCache.get(ID)).map(DayDTO::getVersion).contains(1);
+    }
+
+    @Test
+    void shouldBeDisabledWithoutEntries() {
+        applicationProperties.getDays().setCacheMaxEntries(0);
+        DayCache dayCache = newCache();
+
+        dayCache.get(ID);
+        dayCache.get(ID);
+
+        assertThat(loads).hasValue(2);
+        assertThat(meterRegistry.find("cache.gets").meter()).isNull();
+    }
+}
@@ -0,0 +1,140 @@
+package sn.veli.web.rest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import sn.veli.IntegrationTest;
+import sn.veli.service.dto.AddBusinessDaysDTO;
+
+/**
+ * Integration tests for the {@link BusinessCalendarController} REST controller.
+ * <p>
+ * The test configuration covers 2000 to 2100, with the {@code sn} holiday set by default.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class BusinessCalendarControllerIT {
+
+    private static final String BUSINESS_URL = "/services/calendar/business";
+
+    @Autowired
+    private MockMvc restBusinessCalendarMockMvc;
+
+    @Test
+    void getBusinessDay() throws Exception {
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/day").param("date", "19-10-2026"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.date").value("2026-10-19"))
+            .andExpect(jsonPath("$.dayOfWeek").value("MONDAY"))
+            .andExpect(jsonPath("$.businessDay").value(true));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/day").param("date", "2026-12-25"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.businessDay").value(false));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/day").param("date", "2026-07-14"))
+            .andExpect(jsonPath("$.businessDay").value(true));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/day").param("date", "2026-07-14").param("holidays", "fr"))
+            .andExpect(jsonPath("$.businessDay").value(false));
+    }
+
+    @Test
+    void getNextAndPreviousBusinessDays() throws Exception {
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/next").param("date", "24-12-2026"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.date").value("2026-12-28"))
+            .andExpect(jsonPath("$.dayOfWeek").value("MONDAY"))
+            .andExpect(jsonPath("$.businessDay").value(true));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/previous").param("date", "2026-01-04"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.date").value("2026-01-02"));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/next").param("date", "2100-12-31"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.datenotcovered"));
+    }
+
+    @Test
+    void countBusinessDays() throws Exception {
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/count").param("from", "01-01-2026").param("to", "31-12-2026"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.from").value("2026-01-01"))
+            .andExpect(jsonPath("$.to").value("2026-12-31"))
+            .andExpect(jsonPath("$.businessDays").value(258));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/count").param("from", "2026-01-01").param("to", "2026-12-31").param("holidays", "fr"))
+            .andExpect(jsonPath("$.businessDays").value(260));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/count").param("from", "2026-01-02").param("to", "2026-01-01"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.rangeinvalid"));
+    }
+
+    @Test
+    void addBusinessDays() throws Exception {
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/add").param("date", "24-12-2026").param("days", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.date").value("2026-12-28"))
+            .andExpect(jsonPath("$.businessDay").value(true));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/add").param("date", "2026-01-05").param("days", "-2"))
+            .andExpect(jsonPath("$.date").value("2025-12-31"));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/add").param("date", "2026-01-05").param("days", "100000"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.datenotcovered"));
+    }
+
+    @Test
+    void addBusinessDaysBatch() throws Exception {
+        restBusinessCalendarMockMvc
+            .perform(
+                post(BUSINESS_URL + "/add/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(
+                        "[{\"date\":\"2026-07-13\",\"days\":1},{\"date\":\"2026-07-13\",\"days\":1,\"holidays\":\"fr\"}," +
+                        "{\"date\":\"31-02-2026\",\"days\":1},{\"date\":\"2026-07-13\"}," +
+                        "{\"date\":\"2026-07-13\",\"days\":1,\"holidays\":\"unknown\"},{\"date\":\"1999-12-31\",\"days\":1}]"
+                    )
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(6))
+            .andExpect(jsonPath("$[0].businessDay").value("2026-07-14"))
+            .andExpect(jsonPath("$[0].error").doesNotExist())
+            .andExpect(jsonPath("$[1].businessDay").value("2026-07-15"))
+            .andExpect(jsonPath("$[1].holidays").value("fr"))
+            .andExpect(jsonPath("$[2].error").value(AddBusinessDaysDTO.INVALID_DATE))
+            .andExpect(jsonPath("$[3].error").value(AddBusinessDaysDTO.MISSING_DAYS))
+            .andExpect(jsonPath("$[4].error").value(AddBusinessDaysDTO.UNKNOWN_HOLIDAY_SET))
+            .andExpect(jsonPath("$[5].error").value(AddBusinessDaysDTO.NOT_COVERED));
+    }
+
+    @Test
+    void rejectInvalidRequests() throws Exception {
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/day").param("date", "31-02-2026"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.dateinvalid"));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/day").param("date", "1999-12-31"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.datenotcovered"));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_URL + "/day").param("date", "2026-10-19").param("holidays", "unknown"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.holidaysetunknown"));
+    }
+}
@@ -0,0 +1,122 @@
+package sn.veli.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import sn.veli.IntegrationTest;
+import sn.veli.config.ApplicationProperties;
+import sn.veli.security.AuthoritiesConstants;
+import sn.veli.service.BusinessCalendarService;
+import sn.veli.service.calendar.CalendarIndex;
+
+/**
+ * Integration tests for the {@link BusinessCalendarEndpoint} actuator endpoint.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class BusinessCalendarEndpointIT {
+
+    private static final String ENDPOINT_URL = "/actuator/businesscalendar";
+
+    private static final String BUSINESS_DAY_URL = "/services/calendar/business/day";
+
+    private static final LocalDate HOLIDAY = LocalDate.of(2026, 10, 19);
+
+    @Autowired
+    private BusinessCalendarService businessCalendarService;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private CalendarIndex calendarIndex;
+
+    @Autowired
+    private MockMvc restBusinessCalendarMockMvc;
+
+    @AfterEach
+    public void cleanup() {
+        businessCalendarService.saveHolidaySet("sn", applicationProperties.getCalendar().getBusiness().getHolidaySets().get("sn"));
+        businessCalendarService.deleteHolidaySet("test");
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void shouldListTheHolidaySets() throws Exception {
+        restBusinessCalendarMockMvc
+            .perform(get(ENDPOINT_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.defaultHolidaySet").value("sn"))
+            .andExpect(jsonPath("$.holidaySets.sn[0]").value("2026-01-01"))
+            .andExpect(jsonPath("$.holidaySets.fr[0]").value("2026-07-14"));
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void shouldReplaceTheDefaultHolidaySet() throws Exception {
+        long christmas = LocalDate.of(2026, 12, 25).toEpochDay();
+        assertThat(CalendarIndex.hasFlags(calendarIndex.get(christmas), CalendarIndex.HOLIDAY)).isTrue();
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_DAY_URL).param("date", HOLIDAY.toString()))
+            .andExpect(jsonPath("$.businessDay").value(true));
+
+        restBusinessCalendarMockMvc
+            .perform(post(ENDPOINT_URL + "/sn").contentType(MediaType.APPLICATION_JSON).content("{\"holidays\":\"2026-10-19\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.holidaySets.sn.length()").value(1));
+
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_DAY_URL).param("date", HOLIDAY.toString()))
+            .andExpect(jsonPath("$.businessDay").value(false));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_DAY_URL).param("date", "2026-12-25"))
+            .andExpect(jsonPath("$.businessDay").value(true));
+        assertThat(CalendarIndex.hasFlags(calendarIndex.get(HOLIDAY.toEpochDay()), CalendarIndex.HOLIDAY)).isTrue();
+        assertThat(CalendarIndex.hasFlags(calendarIndex.get(christmas), CalendarIndex.HOLIDAY)).isFalse();
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void shouldAddAndDeleteAHolidaySet() throws Exception {
+        restBusinessCalendarMockMvc
+            .perform(post(ENDPOINT_URL + "/test").contentType(MediaType.APPLICATION_JSON).content("{\"holidays\":\"2026-10-19\"}"))
+            .andExpect(status().isOk());
+        assertThat(businessCalendarService.getHolidaySets()).containsEntry("test", Set.of(HOLIDAY));
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_DAY_URL).param("date", HOLIDAY.toString()).param("holidays", "test"))
+            .andExpect(jsonPath("$.businessDay").value(false));
+
+        restBusinessCalendarMockMvc.perform(delete(ENDPOINT_URL + "/test")).andExpect(status().isOk());
+        restBusinessCalendarMockMvc
+            .perform(get(BUSINESS_DAY_URL).param("date", HOLIDAY.toString()).param("holidays", "test"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void shouldRejectInvalidChanges() throws Exception {
+        restBusinessCalendarMockMvc
+            .perform(
+                post(ENDPOINT_URL + "/test").contentType(MediaType.APPLICATION_JSON).content("{\"holidays\":\"2026-10-19,19-10-2026\"}")
+            )
+            .andExpect(status().isBadRequest());
+        restBusinessCalendarMockMvc.perform(delete(ENDPOINT_URL + "/sn")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldBeRestrictedToAdministrators() throws Exception {
+        restBusinessCalendarMockMvc.perform(get(ENDPOINT_URL)).andExpect(status().isForbidden());
+        restBusinessCalendarMockMvc.perform(delete(ENDPOINT_URL + "/fr")).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,92 @@
+package sn.veli.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import sn.veli.IntegrationTest;
+import sn.veli.domain.Day;
+import sn.veli.repository.DayRepository;
+import sn.veli.security.AuthoritiesConstants;
+
+/**
+ * Integration tests for the {@link CalendarTableEndpoint} actuator endpoint.
+ * <p>
+ * The job runs synchronously with the test task executor.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class CalendarTableEndpointIT {
+
+    private static final String ENDPOINT_URL = "/actuator/calendartable";
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2401, 1, 1);
+
+    private static final LocalDate LAST_DATE = LocalDate.of(2402, 12, 31);
+
+    @Autowired
+    private DayRepository dayRepository;
+
+    @Autowired
+    private MockMvc restCalendarTableMockMvc;
+
+    @AfterEach
+    public void cleanup() {
+        dayRepository.deleteAll(dayRepository.findByDateBetween(FIRST_DATE, LAST_DATE, Pageable.unpaged(), Day.class));
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void shouldFillTheDayTable() throws Exception {
+        dayRepository.saveAndFlush(new Day().date(FIRST_DATE).dayOfWeek("STORED"));
+
+        restCalendarTableMockMvc
+            .perform(post(ENDPOINT_URL).contentType(MediaType.APPLICATION_JSON).content("{\"fromYear\":2401,\"toYear\":2402}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.fromYear").value(2401))
+            .andExpect(jsonPath("$.totalDays").value(730));
+
+        restCalendarTableMockMvc
+            .perform(get(ENDPOINT_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.processedDays").value(730))
+            .andExpect(jsonPath("$.insertedDays").value(729));
+
+        assertThat(dayRepository.findDatesBetween(FIRST_DATE, LAST_DATE)).hasSize(730);
+        assertThat(dayRepository.findByDate(FIRST_DATE)).map(Day::getDayOfWeek).contains("STORED");
+        assertThat(dayRepository.findByDate(LAST_DATE)).map(Day::getDayOfWeek).contains("TUESDAY");
+
+        // a second run finds every date stored
+        restCalendarTableMockMvc
+            .perform(post(ENDPOINT_URL).contentType(MediaType.APPLICATION_JSON).content("{\"fromYear\":2401,\"toYear\":2402}"))
+            .andExpect(status().isOk());
+        restCalendarTableMockMvc.perform(get(ENDPOINT_URL)).andExpect(jsonPath("$.insertedDays").value(0));
+    }
+
+    @Test
+    @WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+    void shouldRejectAnInvalidRange() throws Exception {
+        restCalendarTableMockMvc
+            .perform(post(ENDPOINT_URL).contentType(MediaType.APPLICATION_JSON).content("{\"fromYear\":2402,\"toYear\":2401}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser
+    void shouldBeRestrictedToAdministrators() throws Exception {
+        restCalendarTableMockMvc
+            .perform(post(ENDPOINT_URL).contentType(MediaType.APPLICATION_JSON).content("{\"fromYear\":2401,\"toYear\":2402}"))
+            .andExpect(status().isForbidden());
+        restCalendarTableMockMvc.perform(get(ENDPOINT_URL)).andExpect(status().isForbidden());
+    }
+}
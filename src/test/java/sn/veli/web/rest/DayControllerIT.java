@@ -0,0 +1,249 @@
+package sn.veli.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import sn.veli.IntegrationTest;
+import sn.veli.service.dto.HistoryEventDTO;
+import sn.veli.service.history.HistoryPublisher;
+
+/**
+ * Integration tests for the {@link DayController} REST controller.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser
+class DayControllerIT {
+
+    private static final String DAYFINDER_URL = "/services/calendar/dayfinder";
+    private static final String BATCH_URL = DAYFINDER_URL + "/batch";
+    private static final String RANGE_URL = "/services/calendar/range";
+    private static final String MONTH_URL = "/services/calendar/month";
+
+    @Autowired
+    private MockMvc restDayMockMvc;
+
+    @MockBean
+    private HistoryPublisher historyPublisher;
+
+    @Test
+    void getDayByDateString() throws Exception {
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "18-10-2026"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.date").value("18-10-2026"))
+            .andExpect(jsonPath("$.dayOfWeek").value("SUNDAY"));
+
+        verify(historyPublisher).publish(any(HistoryEventDTO.class));
+    }
+
+    @Test
+    @WithUnauthenticatedMockUser
+    void calendarRequiresAuthentication() throws Exception {
+        restDayMockMvc.perform(get(DAYFINDER_URL).param("date", "18-10-2026")).andExpect(status().isUnauthorized());
+        restDayMockMvc
+            .perform(post(BATCH_URL).contentType(MediaType.APPLICATION_JSON).content("[\"18-10-2026\"]"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void getDayByDateStringWithCachingHeaders() throws Exception {
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "18-10-2026"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2026-10-18\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"));
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "2026-10-18"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2026-10-18\""));
+    }
+
+    @Test
+    void getDayByDateStringNotModified() throws Exception {
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "18-10-2026").header(HttpHeaders.IF_NONE_MATCH, "\"2026-10-17\", W/\"2026-10-18\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2026-10-18\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+            .andExpect(content().string(""));
+        verify(historyPublisher, times(0)).publish(any(HistoryEventDTO.class));
+
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "18-10-2026").header(HttpHeaders.IF_NONE_MATCH, "\"2026-10-17\""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dayOfWeek").value("SUNDAY"));
+        verify(historyPublisher, times(1)).publish(any(HistoryEventDTO.class));
+    }
+
+    @Test
+    void getDayByDateStringInOtherFormats() throws Exception {
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "2026-10-18"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dayOfWeek").value("SUNDAY"));
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "20261018").param("format", "yyyyMMdd"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dayOfWeek").value("SUNDAY"));
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "18/10/2026").param("format", "day_month_year_slash"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dayOfWeek").value("SUNDAY"));
+    }
+
+    @Test
+    void getDayByInvalidDateString() throws Exception {
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "31-02-2026"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.dateinvalid"));
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "18-10-2026").param("format", "iso"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.dateinvalid"));
+        restDayMockMvc
+            .perform(get(DAYFINDER_URL).param("date", "18-10-2026").param("format", "MM.dd.yyyy"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.formatinvalid"));
+
+        verify(historyPublisher, times(0)).publish(any(HistoryEventDTO.class));
+    }
+
+    @Test
+    void getDaysByDateStrings() throws Exception {
+        restDayMockMvc
+            .perform(post(BATCH_URL).contentType(MediaType.APPLICATION_JSON).content("[\"01-01-2024\",\"31-02-2024\",\"29-02-2024\"]"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].dayOfWeek").value("MONDAY"))
+            .andExpect(jsonPath("$[1].date").value("31-02-2024"))
+            .andExpect(jsonPath("$[1].error").value("invalid date"))
+            .andExpect(jsonPath("$[1].dayOfWeek").doesNotExist())
+            .andExpect(jsonPath("$[2].dayOfWeek").value("THURSDAY"));
+
+        ArgumentCaptor<HistoryEventDTO> event = ArgumentCaptor.forClass(HistoryEventDTO.class);
+        verify(historyPublisher, times(1)).publish(event.capture());
+        assertThat(event.getValue().getResponse()).isEqualTo("Days of week: 2 resolved, 1 invalid");
+    }
+
+    @Test
+    void streamDaysByDateStrings() throws Exception {
+        String body = restDayMockMvc
+            .perform(post(BATCH_URL).contentType(MediaType.APPLICATION_NDJSON).content("01-01-2024\n\n\"02-01-2024\"\nnot a date\n"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThat(body.split("\n")).containsExactly(
+            "{\"date\":\"01-01-2024\",\"dayOfWeek\":\"MONDAY\"}",
+            "{\"date\":\"02-01-2024\",\"dayOfWeek\":\"TUESDAY\"}",
+            "{\"date\":\"not a date\",\"error\":\"invalid date\"}"
+        );
+        verify(historyPublisher, times(1)).publish(any(HistoryEventDTO.class));
+    }
+
+    @Test
+    void getDaysInRangeAsNdjson() throws Exception {
+        MvcResult result = restDayMockMvc
+            .perform(get(RANGE_URL).param("from", "30-12-2023").param("to", "02-01-2024"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = restDayMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThat(body).isEqualTo(
+            "{\"date\":\"30-12-2023\",\"dayOfWeek\":\"SATURDAY\"}\n" +
+            "{\"date\":\"31-12-2023\",\"dayOfWeek\":\"SUNDAY\"}\n" +
+            "{\"date\":\"01-01-2024\",\"dayOfWeek\":\"MONDAY\"}\n" +
+            "{\"date\":\"02-01-2024\",\"dayOfWeek\":\"TUESDAY\"}\n"
+        );
+        verify(historyPublisher, times(1)).publish(any(HistoryEventDTO.class));
+    }
+
+    @Test
+    void getDaysInRangeAsJsonArray() throws Exception {
+        MvcResult result = restDayMockMvc
+            .perform(get(RANGE_URL).param("from", "28-02-2024").param("to", "01-03-2024").accept(MediaType.APPLICATION_JSON))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        restDayMockMvc
+            .perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[1].date").value("29-02-2024"))
+            .andExpect(jsonPath("$[1].dayOfWeek").value("THURSDAY"));
+    }
+
+    @Test
+    void getDaysInInvalidRange() throws Exception {
+        restDayMockMvc.perform(get(RANGE_URL).param("from", "02-01-2024").param("to", "01-01-2024")).andExpect(status().isBadRequest());
+        restDayMockMvc.perform(get(RANGE_URL).param("from", "31-02-2024").param("to", "01-03-2024")).andExpect(status().isBadRequest());
+        restDayMockMvc.perform(get(RANGE_URL).param("from", "01-01-1000").param("to", "01-01-3000")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void getMonthGrid() throws Exception {
+        restDayMockMvc
+            .perform(get(MONTH_URL).param("year", "2026").param("month", "10").param("firstDayOfWeek", "sunday"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2026-10-SUNDAY\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+            .andExpect(jsonPath("$.firstDayOfWeek").value("SUNDAY"))
+            .andExpect(jsonPath("$.weeks.length()").value(6))
+            .andExpect(jsonPath("$.weeks[0][0].date").value("2026-09-27"))
+            .andExpect(jsonPath("$.weeks[0][0].isoWeek").value(39))
+            .andExpect(jsonPath("$.weeks[0][0].inMonth").value(false))
+            .andExpect(jsonPath("$.weeks[0][4].date").value("2026-10-01"))
+            .andExpect(jsonPath("$.weeks[0][4].dayOfWeek").value("THURSDAY"))
+            .andExpect(jsonPath("$.weeks[0][4].inMonth").value(true));
+
+        restDayMockMvc
+            .perform(get(MONTH_URL).param("year", "2026").param("month", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.weeks[0][0].date").value("2026-09-28"));
+        verify(historyPublisher, times(0)).publish(any(HistoryEventDTO.class));
+    }
+
+    @Test
+    void getMonthGridNotModified() throws Exception {
+        restDayMockMvc
+            .perform(get(MONTH_URL).param("year", "2026").param("month", "10").header(HttpHeaders.IF_NONE_MATCH, "\"2026-10-MONDAY\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    void getInvalidMonthGrid() throws Exception {
+        restDayMockMvc
+            .perform(get(MONTH_URL).param("year", "2026").param("month", "13"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.monthinvalid"));
+        restDayMockMvc
+            .perform(get(MONTH_URL).param("year", "2026").param("month", "10").param("firstDayOfWeek", "someday"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.dayofweekinvalid"));
+    }
+}
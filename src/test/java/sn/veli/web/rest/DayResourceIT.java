@@ -1,18 +1,28 @@
 package sn.veli.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -31,8 +41,8 @@ import sn.veli.service.mapper.DayMapper;
 @WithMockUser
 class DayResourceIT {
 
-    private static final String DEFAULT_DATE = "AAAAAAAAAA";
-    private static final String UPDATED_DATE = "BBBBBBBBBB";
+    private static final LocalDate DEFAULT_DATE = LocalDate.ofEpochDay(0L);
+    private static final LocalDate UPDATED_DATE = LocalDate.now(ZoneId.systemDefault());
 
     private static final String DEFAULT_DAY_OF_WEEK = "AAAAAAAAAA";
     private static final String UPDATED_DAY_OF_WEEK = "BBBBBBBBBB";
@@ -52,11 +62,16 @@ class DayResourceIT {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Autowired
     private MockMvc restDayMockMvc;
 
     private Day day;
 
+    private Statistics statistics;
+
     /**
      * Create an entity for this test.
      *
@@ -82,6 +97,13 @@ class DayResourceIT {
     @BeforeEach
     public void initTest() {
         day = createEntity(em);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void disableStatistics() {
+        statistics.setStatisticsEnabled(false);
     }
 
     @Test
@@ -121,6 +143,53 @@ class DayResourceIT {
         assertThat(dayList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    @Transactional
+    void createDays() throws Exception {
+        int databaseSizeBeforeCreate = dayRepository.findAll().size();
+        // Create the Days
+        List<DayDTO> dayDTOs = List.of(
+            dayMapper.toDto(day),
+            dayMapper.toDto(new Day().date(DEFAULT_DATE.plusDays(1)).dayOfWeek(DEFAULT_DAY_OF_WEEK)),
+            dayMapper.toDto(new Day().date(DEFAULT_DATE.plusDays(2)).dayOfWeek(DEFAULT_DAY_OF_WEEK))
+        );
+        restDayMockMvc
+            .perform(post(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(dayDTOs)))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$.[0].id").isNumber())
+            .andExpect(jsonPath("$.[2].date").value(DEFAULT_DATE.plusDays(2).toString()));
+
+        // Validate the Days in the database
+        assertThat(dayRepository.findAll()).hasSize(databaseSizeBeforeCreate + 3);
+        assertThat(dayRepository.findByDate(DEFAULT_DATE.plusDays(1))).isPresent();
+    }
+
+    @Test
+    @Transactional
+    void createDaysWithExistingIdOrMissingDate() throws Exception {
+        int databaseSizeBeforeCreate = dayRepository.findAll().size();
+        DayDTO withId = dayMapper.toDto(new Day().id(1L).date(DEFAULT_DATE.plusDays(1)).dayOfWeek(DEFAULT_DAY_OF_WEEK));
+        DayDTO withoutDate = dayMapper.toDto(new Day().dayOfWeek(DEFAULT_DAY_OF_WEEK));
+
+        restDayMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(dayMapper.toDto(day), withId)))
+            )
+            .andExpect(status().isBadRequest());
+        restDayMockMvc
+            .perform(
+                post(ENTITY_API_URL + "/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(dayMapper.toDto(day), withoutDate)))
+            )
+            .andExpect(status().isBadRequest());
+
+        assertThat(dayRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+    }
+
     @Test
     @Transactional
     void checkDateIsRequired() throws Exception {
@@ -169,10 +238,84 @@ class DayResourceIT {
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.[*].id").value(hasItem(day.getId().intValue())))
-            .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE)))
+            .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())))
             .andExpect(jsonPath("$.[*].dayOfWeek").value(hasItem(DEFAULT_DAY_OF_WEEK)));
     }
 
+    @Test
+    @Transactional
+    void getAllDaysBetweenDates() throws Exception {
+        // Initialize the database
+        dayRepository.saveAndFlush(day);
+        Day nextDay = dayRepository.saveAndFlush(new Day().date(DEFAULT_DATE.plusDays(1)).dayOfWeek(DEFAULT_DAY_OF_WEEK));
+
+        restDayMockMvc
+            .perform(get(ENTITY_API_URL).param("from", DEFAULT_DATE.toString()).param("to", DEFAULT_DATE.toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(day.getId().intValue())))
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(nextDay.getId().intValue()))));
+        restDayMockMvc
+            .perform(get(ENTITY_API_URL).param("from", DEFAULT_DATE.plusDays(1).toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(nextDay.getId().intValue())))
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(day.getId().intValue()))));
+        restDayMockMvc
+            .perform(get(ENTITY_API_URL).param("from", DEFAULT_DATE.plusDays(1).toString()).param("to", DEFAULT_DATE.toString()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void getAllDaysByKeysetPages() throws Exception {
+        // Initialize the database
+        dayRepository.saveAndFlush(day);
+        Day secondDay = dayRepository.saveAndFlush(new Day().date(DEFAULT_DATE.plusDays(1)).dayOfWeek(DEFAULT_DAY_OF_WEEK));
+        Day thirdDay = dayRepository.saveAndFlush(new Day().date(DEFAULT_DATE.plusDays(2)).dayOfWeek(DEFAULT_DAY_OF_WEEK));
+        String to = DEFAULT_DATE.plusDays(2).toString();
+
+        restDayMockMvc
+            .perform(get(ENTITY_API_URL).param("to", to).param("size", "2").param("count", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(jsonPath("$.[0].id").value(day.getId().intValue()))
+            .andExpect(jsonPath("$.[1].id").value(secondDay.getId().intValue()))
+            .andExpect(header().string("X-Total-Count-Estimate", String.valueOf(dayRepository.count())))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("after=" + secondDay.getDate() + "&size=2>; rel=\"next\"")));
+        restDayMockMvc
+            .perform(get(ENTITY_API_URL).param("to", to).param("size", "2").param("after", secondDay.getDate().toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$.[0].id").value(thirdDay.getId().intValue()))
+            .andExpect(header().doesNotExist(HttpHeaders.LINK))
+            .andExpect(header().doesNotExist("X-Total-Count-Estimate"));
+        restDayMockMvc.perform(get(ENTITY_API_URL).param("size", "0")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void exportDays() throws Exception {
+        // Initialize the database
+        dayRepository.saveAndFlush(day);
+        String row = "{\"id\":" + day.getId() + ",\"date\":\"" + DEFAULT_DATE + "\",\"dayOfWeek\":\"" + DEFAULT_DAY_OF_WEEK + "\"}";
+
+        restDayMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andExpect(content().string(containsString(row + "\n")));
+        restDayMockMvc
+            .perform(get(ENTITY_API_URL + "/export").accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(day.getId().intValue())))
+            .andExpect(jsonPath("$.[*].date").value(hasItem(DEFAULT_DATE.toString())));
+        restDayMockMvc
+            .perform(get(ENTITY_API_URL + "/export").accept("text/csv"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/csv"))
+            .andExpect(content().string(startsWith("id,date,dayOfWeek\n")))
+            .andExpect(content().string(containsString(day.getId() + "," + DEFAULT_DATE + "," + DEFAULT_DAY_OF_WEEK + "\n")));
+    }
+
     @Test
     @Transactional
     void getDay() throws Exception {
@@ -185,7 +328,7 @@ class DayResourceIT {
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.id").value(day.getId().intValue()))
-            .andExpect(jsonPath("$.date").value(DEFAULT_DATE))
+            .andExpect(jsonPath("$.date").value(DEFAULT_DATE.toString()))
             .andExpect(jsonPath("$.dayOfWeek").value(DEFAULT_DAY_OF_WEEK));
     }
 
@@ -211,13 +354,18 @@ class DayResourceIT {
         updatedDay.date(UPDATED_DATE).dayOfWeek(UPDATED_DAY_OF_WEEK);
         DayDTO dayDTO = dayMapper.toDto(updatedDay);
 
+        statistics.clear();
         restDayMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, dayDTO.getId())
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(dayDTO))
             )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.date").value(UPDATED_DATE.toString()))
+            .andExpect(jsonPath("$.version").value(1));
+        // a single conditional update
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
 
         // Validate the Day in the database
         List<Day> dayList = dayRepository.findAll();
@@ -225,6 +373,57 @@ class DayResourceIT {
         Day testDay = dayList.get(dayList.size() - 1);
         assertThat(testDay.getDate()).isEqualTo(UPDATED_DATE);
         assertThat(testDay.getDayOfWeek()).isEqualTo(UPDATED_DAY_OF_WEEK);
+        assertThat(testDay.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    void putStaleDay() throws Exception {
+        // Initialize the database
+        dayRepository.saveAndFlush(day);
+
+        // Update the day from an older version
+        DayDTO dayDTO = dayMapper.toDto(day);
+        dayDTO.setVersion(day.getVersion() - 1);
+        dayDTO.setDayOfWeek(UPDATED_DAY_OF_WEEK);
+
+        statistics.clear();
+        restDayMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, dayDTO.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(dayDTO))
+            )
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("error.concurrencyFailure"));
+        // the update, then the check telling a conflict from a missing day
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // Validate the Day in the database
+        em.clear();
+        Day testDay = dayRepository.findById(day.getId()).orElseThrow();
+        assertThat(testDay.getDayOfWeek()).isEqualTo(DEFAULT_DAY_OF_WEEK);
+        assertThat(testDay.getVersion()).isEqualTo(day.getVersion());
+    }
+
+    @Test
+    @Transactional
+    void putWithoutVersionDay() throws Exception {
+        // Initialize the database
+        dayRepository.saveAndFlush(day);
+
+        DayDTO dayDTO = dayMapper.toDto(day);
+        dayDTO.setVersion(null);
+
+        // If the entity doesn't have a version, it will throw BadRequestAlertException
+        restDayMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, dayDTO.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(dayDTO))
+            )
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("error.versionnull"));
     }
 
     @Test
@@ -232,18 +431,18 @@ class DayResourceIT {
     void putNonExistingDay() throws Exception {
         int databaseSizeBeforeUpdate = dayRepository.findAll().size();
         day.setId(longCount.incrementAndGet());
+        day.setVersion(0);
 
         // Create the Day
         DayDTO dayDTO = dayMapper.toDto(day);
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
         restDayMockMvc
             .perform(
                 put(ENTITY_API_URL_ID, dayDTO.getId())
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(TestUtil.convertObjectToJsonBytes(dayDTO))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the Day in the database
         List<Day> dayList = dayRepository.findAll();
@@ -303,6 +502,7 @@ class DayResourceIT {
         // Update the day using partial update
         Day partialUpdatedDay = new Day();
         partialUpdatedDay.setId(day.getId());
+        partialUpdatedDay.setVersion(day.getVersion());
 
         restDayMockMvc
             .perform(
@@ -331,16 +531,22 @@ class DayResourceIT {
         // Update the day using partial update
         Day partialUpdatedDay = new Day();
         partialUpdatedDay.setId(day.getId());
+        partialUpdatedDay.setVersion(day.getVersion());
 
         partialUpdatedDay.date(UPDATED_DATE).dayOfWeek(UPDATED_DAY_OF_WEEK);
 
+        statistics.clear();
         restDayMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, partialUpdatedDay.getId())
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(partialUpdatedDay))
             )
-            .andExpect(status().isOk());
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.dayOfWeek").value(UPDATED_DAY_OF_WEEK))
+            .andExpect(jsonPath("$.version").value(1));
+        // the conditional update, then the read of the updated day
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
 
         // Validate the Day in the database
         List<Day> dayList = dayRepository.findAll();
@@ -350,23 +556,48 @@ class DayResourceIT {
         assertThat(testDay.getDayOfWeek()).isEqualTo(UPDATED_DAY_OF_WEEK);
     }
 
+    @Test
+    @Transactional
+    void patchStaleDay() throws Exception {
+        // Initialize the database
+        dayRepository.saveAndFlush(day);
+
+        // Update the day from an older version
+        Day partialUpdatedDay = new Day();
+        partialUpdatedDay.setId(day.getId());
+        partialUpdatedDay.setVersion(day.getVersion() + 1);
+        partialUpdatedDay.dayOfWeek(UPDATED_DAY_OF_WEEK);
+
+        restDayMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedDay.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedDay))
+            )
+            .andExpect(status().isConflict());
+
+        // Validate the Day in the database
+        em.clear();
+        assertThat(dayRepository.findById(day.getId())).map(Day::getDayOfWeek).contains(DEFAULT_DAY_OF_WEEK);
+    }
+
     @Test
     @Transactional
     void patchNonExistingDay() throws Exception {
         int databaseSizeBeforeUpdate = dayRepository.findAll().size();
         day.setId(longCount.incrementAndGet());
+        day.setVersion(0);
 
         // Create the Day
         DayDTO dayDTO = dayMapper.toDto(day);
 
-        // If the entity doesn't have an ID, it will throw BadRequestAlertException
         restDayMockMvc
             .perform(
                 patch(ENTITY_API_URL_ID, dayDTO.getId())
                     .contentType("application/merge-patch+json")
                     .content(TestUtil.convertObjectToJsonBytes(dayDTO))
             )
-            .andExpect(status().isBadRequest());
+            .andExpect(status().isNotFound());
 
         // Validate the Day in the database
         List<Day> dayList = dayRepository.findAll();